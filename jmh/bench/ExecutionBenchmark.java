@@ -0,0 +1,60 @@
+// === jmh/bench/ExecutionBenchmark.java ===
+package bench;
+
+import interpreter.Interpreter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import parser.ASTNode;
+import vm.Chunk;
+import vm.VM;
+
+/**
+ * {@code interpreter.*} ölçümlerinin JMH karşılığı: aynı programlar her iki
+ * motorda, her işlemde yeni bir yorumlayıcı ya da makine durumuyla çalışır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionBenchmark {
+    // Program adı → (şablon, boyut); boyutlar src/bench takımıyla aynıdır
+    private static final Map<String, Object[]> PROGRAMS = Map.of(
+            "recursion", new Object[] { Benchmarks.FIB, 20 },
+            "nestedLoops", new Object[] { Benchmarks.NESTED_LOOPS, 200 },
+            "concat", new Object[] { Benchmarks.CONCAT, 1_000 },
+            "lookup", new Object[] { Benchmarks.LOOKUP, 10_000 },
+            "smallCalls", new Object[] { Benchmarks.SMALL_CALLS, 10_000 },
+            "buildString", new Object[] { Benchmarks.BUILD_STRING, 10_000 });
+
+    @Param({ "tree", "vm" })
+    public String engine;
+
+    @Param({ "recursion", "nestedLoops", "concat", "lookup", "smallCalls", "buildString" })
+    public String program;
+
+    private ASTNode.Program tree;
+    private Chunk chunk;
+
+    @Setup
+    public void setup() {
+        Object[] entry = PROGRAMS.get(program);
+        if (entry == null) throw new IllegalArgumentException("Bilinmeyen program: " + program);
+        tree = Benchmarks.compile(String.format((String) entry[0], entry[1]));
+        if (engine.equals("vm")) chunk = new vm.Compiler().compile(tree);
+    }
+
+    // bench.Benchmark ile karışmasın diye tam adıyla
+    @org.openjdk.jmh.annotations.Benchmark
+    public Object run() {
+        if (chunk != null) {
+            new VM().run(chunk);
+            return chunk;
+        }
+        Interpreter interpreter = new Interpreter();
+        interpreter.execute(tree);
+        return interpreter;
+    }
+}
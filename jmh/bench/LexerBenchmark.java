@@ -0,0 +1,35 @@
+// === jmh/bench/LexerBenchmark.java ===
+package bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lexer.Lexer;
+import lexer.Token;
+import org.openjdk.jmh.annotations.*;
+
+/** {@code lexer.tokenize} ölçümünün JMH karşılığı. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+    @Param({ "100", "1000", "10000" })
+    public int lines;
+
+    private String source;
+    private Lexer lexer;
+
+    @Setup
+    public void setup() {
+        source = Benchmarks.repeatLines(Benchmarks.SAMPLE, lines);
+        lexer = new Lexer();
+    }
+
+    // bench.Benchmark ile karışmasın diye tam adıyla
+    @org.openjdk.jmh.annotations.Benchmark
+    public List<Token> tokenize() {
+        return lexer.tokenize(source);
+    }
+}
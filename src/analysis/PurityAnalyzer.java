@@ -0,0 +1,178 @@
+// === src/analysis/PurityAnalyzer.java ===
+package analysis;
+
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+
+/**
+ * Yan etkisiz fonksiyonları bulur ({@link ASTNode.Function#pure}) ve
+ * sonuçları önbelleğe alınacak olanları {@link ASTNode.Function#memoize} ile
+ * işaretler. Saf fonksiyonlar üst kademe derleyicide de kullanılır: baştan
+ * yeniden çalıştırılmaları güvenlidir. {@link Resolver}'dan sonra
+ * çalışır; değişkenlerin yerel mi global mi olduğu çözümleyicinin
+ * yazdığı derinlikten okunur.
+ *
+ * <p>Bir fonksiyon şu koşulların hepsini sağlıyorsa saftır:
+ * <ul>
+ *   <li>{@code yazdır} ve {@code ??istem??} kullanmaz.</li>
+ *   <li>Global değişkenlere atama yapmaz ve onları okumaz; sonucu yalnızca
+ *       argümanlarına bağlıdır.</li>
+ *   <li>Gövdesinde fonksiyon tanımlamaz.</li>
+ *   <li>Yalnızca saf fonksiyonları çağırır; kendini çağırması serbesttir.</li>
+ *   <li>Programda tek bir kez tanımlanmıştır. Yeniden tanımlanan bir
+ *       fonksiyonun ve onu çağıranların önbelleği eskiyebilir.</li>
+ * </ul>
+ *
+ * Saf fonksiyonlardan önünde {@code @hatırla} yorumu bulunanlar, ya da
+ * {@code all} açıksa hepsi işaretlenir.
+ */
+public class PurityAnalyzer implements ASTVisitor<Void> {
+    /** Bir fonksiyon tanımı hakkında toplanan bilgiler. */
+    private static final class Definition {
+        final ASTNode.Function node;
+        final Set<String> callees = new HashSet<>();
+        boolean sideEffects;
+
+        Definition(ASTNode.Function node) {
+            this.node = node;
+        }
+    }
+
+    private final boolean all;
+    private final Map<String, List<Definition>> definitions = new HashMap<>();
+    private Definition current;
+
+    /** {@code all} açıksa pragma aranmaz, bütün saf fonksiyonlar önbelleğe alınır. */
+    public PurityAnalyzer(boolean all) {
+        this.all = all;
+    }
+
+    /** Programı inceler ve önbelleğe alınacak fonksiyonların adlarını döndürür. */
+    public Set<String> analyze(ASTNode.Program program) {
+        visitProgram(program);
+
+        // Önce her isim saf kabul edilir; kendini ya da birbirini çağıran
+        // fonksiyonlar böylece saf kalabilir. Saf olmayan bir fonksiyonu
+        // çağıran her fonksiyon, değişiklik kalmayana kadar elenir.
+        Set<String> pure = new HashSet<>();
+        definitions.forEach((name, list) -> {
+            if (list.size() == 1 && !list.get(0).sideEffects) pure.add(name);
+        });
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Iterator<String> it = pure.iterator(); it.hasNext(); ) {
+                Definition definition = definitions.get(it.next()).get(0);
+                if (!pure.containsAll(definition.callees)) {
+                    it.remove();
+                    changed = true;
+                }
+            }
+        }
+
+        Set<String> memoized = new TreeSet<>();
+        for (String name : pure) {
+            ASTNode.Function node = definitions.get(name).get(0).node;
+            node.pure = true;
+            node.memoize = all || node.memoPragma;
+            if (node.memoize) memoized.add(name);
+        }
+        return memoized;
+    }
+
+    private void sideEffect() {
+        if (current != null) current.sideEffects = true;
+    }
+
+    public Void visitProgram(ASTNode.Program node) {
+        for (ASTNode statement : node.statements) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitFunction(ASTNode.Function node) {
+        // İç içe tanım, dıştaki fonksiyon için global bir yan etkidir
+        sideEffect();
+        Definition outer = current;
+        current = new Definition(node);
+        definitions.computeIfAbsent(node.name, k -> new ArrayList<>()).add(current);
+        node.body.accept(this);
+        current = outer;
+        return null;
+    }
+
+    public Void visitVarDecl(ASTNode.VarDecl node) {
+        if (node.depth == ASTNode.GLOBAL) sideEffect();
+        node.initializer.accept(this);
+        return null;
+    }
+
+    public Void visitAssign(ASTNode.Assign node) {
+        if (node.depth == ASTNode.GLOBAL) sideEffect();
+        node.value.accept(this);
+        return null;
+    }
+
+    public Void visitVar(ASTNode.Var node) {
+        if (node.depth == ASTNode.GLOBAL) sideEffect();
+        return null;
+    }
+
+    public Void visitPrint(ASTNode.Print node) {
+        sideEffect();
+        node.expression.accept(this);
+        return null;
+    }
+
+    public Void visitInputPrompt(ASTNode.InputPrompt node) {
+        sideEffect();
+        return null;
+    }
+
+    public Void visitCall(ASTNode.Call node) {
+        if (current != null) current.callees.add(node.name);
+        for (ASTNode arg : node.args) {
+            arg.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitIf(ASTNode.If node) {
+        node.condition.accept(this);
+        node.thenBranch.accept(this);
+        if (node.elseBranch != null) node.elseBranch.accept(this);
+        return null;
+    }
+
+    public Void visitWhile(ASTNode.While node) {
+        node.condition.accept(this);
+        node.body.accept(this);
+        return null;
+    }
+
+    public Void visitReturn(ASTNode.Return node) {
+        node.value.accept(this);
+        return null;
+    }
+
+    public Void visitBlock(ASTNode.Block node) {
+        for (ASTNode statement : node.statements) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitBinOp(ASTNode.BinOp node) {
+        node.left.accept(this);
+        node.right.accept(this);
+        return null;
+    }
+
+    public Void visitComment(ASTNode.Comment node) { return null; }
+    public Void visitIntLit(ASTNode.IntLit node) { return null; }
+    public Void visitFloatLit(ASTNode.FloatLit node) { return null; }
+    public Void visitStringLit(ASTNode.StringLit node) { return null; }
+    public Void visitBooleanLit(ASTNode.BooleanLit node) { return null; }
+}
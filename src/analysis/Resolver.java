@@ -0,0 +1,207 @@
+// === src/analysis/Resolver.java ===
+package analysis;
+
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+
+/**
+ * Ayrıştırmadan sonra, çalıştırmadan önce çalışan çözümleme geçişi. Her
+ * {@code Var}, {@code VarDecl} ve {@code Assign} düğümünü (derinlik, yuva)
+ * çiftine bağlar; yorumlayıcı böylece değişkenlere isimle değil dizi
+ * indeksiyle erişir.
+ *
+ * <p>Kapsam kuralları sözcükseldir: bir fonksiyon gövdesi kendi
+ * parametrelerini, yerel değişkenlerini ve üst düzeyde tanımlanan global
+ * değişkenleri görür. Üst düzeyde henüz tanımlanmamış bir isim global isim
+ * tablosunda yer alır; tanımlanmadan okunursa çalışma zamanında
+ * "Tanımsız değişken" hatası verilir.
+ *
+ * <p>Çözümleyici durumunu korur; aynı örnek üst düzey ifadeleri tek tek
+ * çözümlemek için de kullanılabilir.
+ */
+public class Resolver implements ASTVisitor<Void> {
+    /** Bir çağrı çerçevesi: iç içe blok kapsamları ve ayrılmış yuva sayısı. */
+    private static final class Frame {
+        final Deque<Map<String, Integer>> blocks = new ArrayDeque<>();
+        final boolean global;
+        int size;
+
+        Frame(boolean global) {
+            this.global = global;
+        }
+
+        int declare(String name) {
+            Map<String, Integer> innermost = blocks.peek();
+            Integer slot = innermost.get(name);
+            if (slot == null) {
+                slot = size++;
+                innermost.put(name, slot);
+            }
+            return slot;
+        }
+
+        Integer find(String name) {
+            for (Map<String, Integer> block : blocks) {
+                Integer slot = block.get(name);
+                if (slot != null) return slot;
+            }
+            return null;
+        }
+    }
+
+    private final Frame globals = new Frame(true);
+    private final Map<String, Integer> globalNames = new HashMap<>();
+    private Frame current = globals;
+    private int binOps;
+    private int calls;
+
+    public Resolver() {
+        globals.blocks.push(globalNames);
+    }
+
+    public void resolve(ASTNode.Program program) {
+        visitProgram(program);
+    }
+
+    /** Tek bir üst düzey ifadeyi çözümler. */
+    public void resolveStatement(ASTNode statement) {
+        statement.accept(this);
+    }
+
+    /** Şimdiye kadar ayrılmış global yuva sayısı. */
+    public int globalCount() {
+        return globals.size;
+    }
+
+    /** Şimdiye kadar numaralanmış, tipi kanıtlanamamış işlem sayısı. */
+    public int binOpCount() {
+        return binOps;
+    }
+
+    /** Şimdiye kadar numaralanmış çağrı sayısı. */
+    public int callCount() {
+        return calls;
+    }
+
+    /** İsimle erişilebilen global değişkenler ve yuvaları. */
+    public Map<String, Integer> globalNames() {
+        return Collections.unmodifiableMap(globalNames);
+    }
+
+    private int depth() {
+        return current.global ? ASTNode.GLOBAL : ASTNode.LOCAL;
+    }
+
+    /** İsmi önce geçerli çerçevede, sonra global isim tablosunda arar. */
+    private int[] lookup(String name) {
+        Integer slot = current.find(name);
+        if (slot != null) return new int[] { depth(), slot };
+        slot = globalNames.get(name);
+        if (slot == null) {
+            slot = globals.size++;
+            globalNames.put(name, slot);
+        }
+        return new int[] { ASTNode.GLOBAL, slot };
+    }
+
+    private void resolveAll(List<ASTNode> nodes) {
+        for (ASTNode node : nodes) {
+            node.accept(this);
+        }
+    }
+
+    public Void visitProgram(ASTNode.Program node) {
+        resolveAll(node.statements);
+        node.frameSize = globals.size;
+        return null;
+    }
+
+    public Void visitVarDecl(ASTNode.VarDecl node) {
+        // Başlangıç değeri, yeni değişken tanımlanmadan önceki kapsamda değerlendirilir
+        node.initializer.accept(this);
+        node.depth = depth();
+        node.slot = current.declare(node.name);
+        return null;
+    }
+
+    public Void visitAssign(ASTNode.Assign node) {
+        node.value.accept(this);
+        int[] binding = lookup(node.name);
+        node.depth = binding[0];
+        node.slot = binding[1];
+        return null;
+    }
+
+    public Void visitPrint(ASTNode.Print node) {
+        node.expression.accept(this);
+        return null;
+    }
+
+    public Void visitIf(ASTNode.If node) {
+        node.condition.accept(this);
+        node.thenBranch.accept(this);
+        if (node.elseBranch != null) node.elseBranch.accept(this);
+        return null;
+    }
+
+    public Void visitWhile(ASTNode.While node) {
+        node.condition.accept(this);
+        node.body.accept(this);
+        return null;
+    }
+
+    public Void visitFunction(ASTNode.Function node) {
+        Frame enclosing = current;
+        current = new Frame(false);
+        current.blocks.push(new HashMap<>());
+        for (String param : node.params) {
+            current.declare(param);
+        }
+        node.body.accept(this);
+        node.frameSize = current.size;
+        current = enclosing;
+        return null;
+    }
+
+    public Void visitReturn(ASTNode.Return node) {
+        node.value.accept(this);
+        return null;
+    }
+
+    public Void visitBlock(ASTNode.Block node) {
+        current.blocks.push(new HashMap<>());
+        resolveAll(node.statements);
+        current.blocks.pop();
+        return null;
+    }
+
+    public Void visitCall(ASTNode.Call node) {
+        resolveAll(node.args);
+        node.site = calls++;
+        return null;
+    }
+
+    public Void visitComment(ASTNode.Comment node) { return null; }
+    public Void visitIntLit(ASTNode.IntLit node) { return null; }
+    public Void visitFloatLit(ASTNode.FloatLit node) { return null; }
+    public Void visitStringLit(ASTNode.StringLit node) { return null; }
+    public Void visitBooleanLit(ASTNode.BooleanLit node) { return null; }
+
+    public Void visitVar(ASTNode.Var node) {
+        int[] binding = lookup(node.name);
+        node.depth = binding[0];
+        node.slot = binding[1];
+        return null;
+    }
+
+    public Void visitBinOp(ASTNode.BinOp node) {
+        node.left.accept(this);
+        node.right.accept(this);
+        // Tipi kanıtlanmış işlemler özelleşmez
+        if (node.operandType == null) node.site = binOps++;
+        return null;
+    }
+
+    public Void visitInputPrompt(ASTNode.InputPrompt node) { return null; }
+}
@@ -0,0 +1,291 @@
+// === src/analysis/TypeChecker.java ===
+package analysis;
+
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+import parser.DataType;
+import parser.Operator;
+
+/**
+ * {@code tür} bildirimlerini program çalışmadan önce denetleyen tip geçişi.
+ * Her ifadenin tipini çıkarır; tipi {@code null} olan ifadelerin tipi
+ * derleme zamanında bilinemez (fonksiyon parametreleri ve dönüş değerleri
+ * gibi).
+ *
+ * <p>Geçiş düğümlere şu bilgileri yazar:
+ * <ul>
+ *   <li>{@code BinOp.operandType}: iki işlenenin de tipi kesinse yorumlayıcı
+ *       tip denetimi yapmayan hızlı yolu kullanır.</li>
+ *   <li>{@code VarDecl.coerce} ve {@code Assign.coerce}: tamsayıdan ondalığa
+ *       genişletme ya da tipi bilinemeyen değerler için çalışma zamanı denetimi.</li>
+ * </ul>
+ *
+ * <p>Bulunan bütün uyuşmazlıklar satır numaralarıyla birlikte tek bir hata
+ * olarak bildirilir.
+ *
+ * <p>Akış kipinde ({@link #checkStatement}) program bütünüyle görülmez;
+ * fonksiyonlar yalnızca kendilerinden önce tanımlanmış global değişkenlerin
+ * tipini bilir. Bir fonksiyonun tipini bilmeden kullandığı değişken sonradan
+ * tanımlanırsa her yerde tipi bilinmeyen sayılır; o fonksiyonun bu
+ * değişkene yaptığı atamalar tip denetiminden geçmez.
+ */
+public class TypeChecker implements ASTVisitor<DataType> {
+    // Üst düzey değişkenlerin tipleri; aynı isim farklı tiplerle tanımlanmışsa
+    // fonksiyonlarda da üst düzeyde de tipi bilinmeyen (null) kabul edilir.
+    // Yalnızca üst düzeyde tipli sayılsaydı bir fonksiyonun yaptığı denetimsiz
+    // atama, hızlı yolun tip varsayımını bozardı.
+    private final Map<String, DataType> globalTypes = new HashMap<>();
+    private Deque<Map<String, DataType>> scopes = new ArrayDeque<>();
+    private boolean inFunction;
+    private final List<String> errors = new ArrayList<>();
+    // Akış kipinde fonksiyonların global olarak aradığı isimler
+    private boolean streaming;
+    private final Set<String> functionGlobals = new HashSet<>();
+
+    public TypeChecker() {
+        scopes.push(new HashMap<>());
+    }
+
+    public void check(ASTNode.Program program) {
+        visitProgram(program);
+        reportErrors();
+    }
+
+    /** Akış kipinde tek bir üst düzey deyimi, öncekilerin bilgisiyle denetler. */
+    public void checkStatement(ASTNode statement) {
+        streaming = true;
+        statement.accept(this);
+        reportErrors();
+    }
+
+    /**
+     * Üst düzeyde tanımlanan global değişkenlerin tipleri. Farklı tiplerle
+     * tanımlanan isimler yer almaz; bunların tipi bilinmeyen sayılır.
+     */
+    public Map<String, DataType> globalTypes() {
+        Map<String, DataType> types = new HashMap<>();
+        globalTypes.forEach((name, type) -> {
+            if (type != null) types.put(name, type);
+        });
+        return types;
+    }
+
+    private void reportErrors() {
+        if (!errors.isEmpty()) {
+            String message = String.join("\n", errors);
+            errors.clear();
+            throw new RuntimeException(message);
+        }
+    }
+
+    private void error(ASTNode node, String message) {
+        errors.add("Satır " + node.line + ": " + message);
+    }
+
+    private DataType lookup(String name) {
+        for (Map<String, DataType> scope : scopes) {
+            if (scope.containsKey(name)) return scope.get(name);
+        }
+        if (!inFunction) return null;
+        if (streaming) functionGlobals.add(name);
+        return globalTypes.get(name);
+    }
+
+    /**
+     * Akış kipinde üst düzey bir tanımı kaydeder ve sonraki üst düzey
+     * deyimlerin göreceği tipi döndürür. Fonksiyonların daha önce tipini
+     * kesin bildiği bir değişken başka bir tiple yeniden tanımlanamaz.
+     */
+    private DataType declareGlobal(ASTNode.VarDecl decl) {
+        if (!functionGlobals.contains(decl.name)) {
+            globalTypes.put(decl.name, decl.dataType);
+            return decl.dataType;
+        }
+        DataType seen = globalTypes.get(decl.name);
+        if (seen != null && seen != decl.dataType) {
+            error(decl, String.format("'%s' fonksiyonlarda %s olarak kullanıldı, %s olarak yeniden tanımlanamaz",
+                    decl.name, seen, decl.dataType));
+        } else if (seen == null) {
+            globalTypes.put(decl.name, null);
+        }
+        return seen;
+    }
+
+    /**
+     * Bildirilen tipe {@code value} tipinde bir değer atanırken gereken
+     * çalışma zamanı işlemini döndürür; gerekmiyorsa {@code null}.
+     */
+    private DataType conversion(ASTNode node, String name, DataType declared, DataType value) {
+        if (value == null) return declared;
+        if (value == declared) return null;
+        if (declared == DataType.ONDALIK && value == DataType.TAMSAYI) return DataType.ONDALIK;
+        error(node, String.format("Tip uyuşmazlığı: '%s' %s tipinde, %s değer atanamaz", name, declared, value));
+        return null;
+    }
+
+    private static boolean isNumeric(DataType type) {
+        return type == DataType.TAMSAYI || type == DataType.ONDALIK;
+    }
+
+    private void checkAll(List<ASTNode> nodes) {
+        for (ASTNode node : nodes) {
+            node.accept(this);
+        }
+    }
+
+    public DataType visitProgram(ASTNode.Program node) {
+        for (ASTNode statement : node.statements) {
+            if (statement instanceof ASTNode.VarDecl decl) {
+                if (!globalTypes.containsKey(decl.name)) {
+                    globalTypes.put(decl.name, decl.dataType);
+                } else if (globalTypes.get(decl.name) != decl.dataType) {
+                    globalTypes.put(decl.name, null);
+                }
+            }
+        }
+        checkAll(node.statements);
+        return null;
+    }
+
+    public DataType visitVarDecl(ASTNode.VarDecl node) {
+        DataType value = node.initializer.accept(this);
+        node.coerce = conversion(node, node.name, node.dataType, value);
+        DataType visible = node.dataType;
+        if (!inFunction && scopes.size() == 1) {
+            visible = streaming ? declareGlobal(node) : globalTypes.get(node.name);
+        }
+        scopes.peek().put(node.name, visible);
+        return null;
+    }
+
+    public DataType visitAssign(ASTNode.Assign node) {
+        DataType value = node.value.accept(this);
+        DataType declared = lookup(node.name);
+        node.coerce = declared == null ? null : conversion(node, node.name, declared, value);
+        return null;
+    }
+
+    public DataType visitPrint(ASTNode.Print node) {
+        node.expression.accept(this);
+        return null;
+    }
+
+    public DataType visitIf(ASTNode.If node) {
+        node.condition.accept(this);
+        node.thenBranch.accept(this);
+        if (node.elseBranch != null) node.elseBranch.accept(this);
+        return null;
+    }
+
+    public DataType visitWhile(ASTNode.While node) {
+        node.condition.accept(this);
+        node.body.accept(this);
+        return null;
+    }
+
+    public DataType visitFunction(ASTNode.Function node) {
+        Deque<Map<String, DataType>> enclosing = scopes;
+        boolean wasInFunction = inFunction;
+        scopes = new ArrayDeque<>();
+        scopes.push(new HashMap<>());
+        for (String param : node.params) {
+            scopes.peek().put(param, null);
+        }
+        inFunction = true;
+        node.body.accept(this);
+        scopes = enclosing;
+        inFunction = wasInFunction;
+        return null;
+    }
+
+    public DataType visitReturn(ASTNode.Return node) {
+        node.value.accept(this);
+        return null;
+    }
+
+    public DataType visitBlock(ASTNode.Block node) {
+        scopes.push(new HashMap<>());
+        checkAll(node.statements);
+        scopes.pop();
+        return null;
+    }
+
+    public DataType visitCall(ASTNode.Call node) {
+        checkAll(node.args);
+        return null;
+    }
+
+    public DataType visitComment(ASTNode.Comment node) { return null; }
+    public DataType visitIntLit(ASTNode.IntLit node) { return DataType.TAMSAYI; }
+    public DataType visitFloatLit(ASTNode.FloatLit node) { return DataType.ONDALIK; }
+    public DataType visitStringLit(ASTNode.StringLit node) { return DataType.YAZI; }
+    public DataType visitBooleanLit(ASTNode.BooleanLit node) { return DataType.MANTIKSAL; }
+    public DataType visitInputPrompt(ASTNode.InputPrompt node) { return DataType.YAZI; }
+
+    public DataType visitVar(ASTNode.Var node) {
+        return lookup(node.name);
+    }
+
+    public DataType visitBinOp(ASTNode.BinOp node) {
+        DataType left = node.left.accept(this);
+        DataType right = node.right.accept(this);
+        boolean numeric = isNumeric(left) && isNumeric(right);
+        DataType widest = left == DataType.TAMSAYI && right == DataType.TAMSAYI ? DataType.TAMSAYI : DataType.ONDALIK;
+
+        switch (node.op) {
+            case ADD -> {
+                if (left == DataType.YAZI || right == DataType.YAZI) return DataType.YAZI;
+                if (numeric) {
+                    node.operandType = widest;
+                    return widest;
+                }
+                if (left != null && right != null) mismatch(node, left, right);
+                return null;
+            }
+            case SUB, MUL, DIV, MOD -> {
+                if (numeric) {
+                    node.operandType = widest;
+                    return widest;
+                }
+                requireNumeric(node, left, right);
+                return null;
+            }
+            case GT, LT, GE, LE -> {
+                if (numeric) {
+                    node.operandType = widest;
+                } else {
+                    requireNumeric(node, left, right);
+                }
+                return DataType.MANTIKSAL;
+            }
+            case EQ, NE -> {
+                if (numeric) {
+                    node.operandType = widest;
+                } else if (left == DataType.MANTIKSAL && right == DataType.MANTIKSAL) {
+                    node.operandType = DataType.MANTIKSAL;
+                }
+                return DataType.MANTIKSAL;
+            }
+            case AND, OR -> {
+                if (left == DataType.MANTIKSAL && right == DataType.MANTIKSAL) {
+                    node.operandType = DataType.MANTIKSAL;
+                }
+                return DataType.MANTIKSAL;
+            }
+        }
+        return null;
+    }
+
+    /** Tipi bilinen işlenenlerden biri sayı değilse hata kaydeder. */
+    private void requireNumeric(ASTNode.BinOp node, DataType left, DataType right) {
+        if ((left != null && !isNumeric(left)) || (right != null && !isNumeric(right))) {
+            mismatch(node, left, right);
+        }
+    }
+
+    private void mismatch(ASTNode.BinOp node, DataType left, DataType right) {
+        error(node, String.format("'%s' işleci %s ve %s değerleri için tanımlı değil", node.op.symbol,
+                left == null ? "bilinmeyen" : left, right == null ? "bilinmeyen" : right));
+    }
+}
@@ -0,0 +1,37 @@
+// === src/bench/Benchmark.java ===
+package bench;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Tek bir ölçüm durumu. Hazırlık ({@code setup}) yalnızca durum seçildiğinde
+ * ve bir kez çalışır; döndürdüğü işlem ise ölçüm boyunca tekrar tekrar
+ * çağrılır. İşlemin sonucu derleyicinin işi atmaması için tüketilir.
+ */
+final class Benchmark {
+    final String name;
+    final Map<String, String> params;
+    private final Supplier<Supplier<Object>> setup;
+
+    Benchmark(String name, Map<String, String> params, Supplier<Supplier<Object>> setup) {
+        this.name = name;
+        this.params = Collections.unmodifiableMap(new LinkedHashMap<>(params));
+        this.setup = setup;
+    }
+
+    Supplier<Object> prepare() {
+        return setup.get();
+    }
+
+    /** Filtrelemede ve raporda kullanılan tam ad: {@code isim[param=değer,...]}. */
+    String id() {
+        if (params.isEmpty()) return name;
+        StringBuilder sb = new StringBuilder(name).append('[');
+        params.forEach((k, v) -> sb.append(k).append('=').append(v).append(','));
+        sb.setCharAt(sb.length() - 1, ']');
+        return sb.toString();
+    }
+}
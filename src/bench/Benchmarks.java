@@ -0,0 +1,314 @@
+// === src/bench/Benchmarks.java ===
+package bench;
+
+import analysis.Resolver;
+import analysis.TypeChecker;
+import cache.ProgramCache;
+import interpreter.Interpreter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import lexer.Lexer;
+import lexer.Token;
+import optimizer.Optimizer;
+import parser.ASTNode;
+import parser.Parser;
+import vm.Chunk;
+import vm.VM;
+
+/**
+ * Sözcük çözümleyici, sözdizimi çözümleyici ve iki çalıştırma motoru için
+ * ölçüm takımı. Ölçülen programlar kod içinde üretilir; çıktı yazmazlar.
+ *
+ * <pre>
+ * java -cp out bench.Benchmarks [--filter=metin] [--json=dosya]
+ *         [--warmup=3] [--iterations=5] [--time=1000] [--list]
+ * </pre>
+ *
+ * {@code --json} ile yazılan sonuçlar JMH biçimindedir; iki çalıştırmanın
+ * dosyaları karşılaştırılarak motor değişikliklerindeki gerilemeler görülür.
+ *
+ * <p>Aynı programlar {@code jmh/} altındaki JMH ölçümlerinde de kullanılır
+ * ({@code gradle jmh}); bu takım JMH bulunmayan ortamlar için yedektir.
+ */
+public final class Benchmarks {
+    private Benchmarks() {}
+
+    static final String SAMPLE = """
+            @ Örnek program parçası
+            tanımla sayi1 tür tamsayı başlangıç 42$
+            tanımla oran tür ondalık başlangıç 3.75$
+            tanımla metin tür yazı başlangıç "Merhaba GökDil"$
+            ise (sayi1 > 40 ve oran < 5.0) {
+                yazdır("sayi1 40'tan büyük: " + sayi1)$
+            } değilse {
+                yazdır(metin)$
+            }
+            böyleyken (sayi1 < 45) {
+                sayi1 = sayi1 + 1$
+            }
+            fonksiyon topla(x, y) {
+                dön x + y$
+            }
+            """;
+
+    static final String FIB = """
+            fonksiyon fib(n) {
+                ise (n < 2) {
+                    dön n$
+                }
+                dön fib(n - 1) + fib(n - 2)$
+            }
+            tanımla sonuc tür tamsayı başlangıç fib(%d)$
+            """;
+
+    static final String NESTED_LOOPS = """
+            tanımla toplam tür tamsayı başlangıç 0$
+            tanımla i tür tamsayı başlangıç 0$
+            böyleyken (i < %1$d) {
+                tanımla j tür tamsayı başlangıç 0$
+                böyleyken (j < %1$d) {
+                    toplam = toplam + i * j %% 7$
+                    j = j + 1$
+                }
+                i = i + 1$
+            }
+            """;
+
+    static final String CONCAT = """
+            tanımla metin tür yazı başlangıç ""$
+            tanımla i tür tamsayı başlangıç 0$
+            böyleyken (i < %d) {
+                metin = metin + "ab" + i$
+                i = i + 1$
+            }
+            """;
+
+    // Her turda on karakter eklenir; n = 100 000 için 1 MB'lık bir yazı oluşur
+    static final String BUILD_STRING = """
+            tanımla metin tür yazı başlangıç ""$
+            tanımla i tür tamsayı başlangıç 0$
+            böyleyken (i < %d) {
+                metin = metin + "abcdefghij"$
+                i = i + 1$
+            }
+            """;
+
+    // Küçük bir yardımcı fonksiyonun çok sayıda çağrılması; çağrı başına maliyet
+    static final String SMALL_CALLS = """
+            fonksiyon topla(x, y) {
+                dön x + y$
+            }
+            tanımla toplam tür tamsayı başlangıç 0$
+            tanımla i tür tamsayı başlangıç 0$
+            böyleyken (i < %d) {
+                toplam = topla(toplam, i)$
+                i = i + 1$
+            }
+            """;
+
+    static final String LOOKUP = """
+            tanımla g1 tür tamsayı başlangıç 1$
+            tanımla g2 tür tamsayı başlangıç 2$
+            tanımla g3 tür tamsayı başlangıç 3$
+            tanımla g4 tür tamsayı başlangıç 4$
+            fonksiyon hesapla(a, b, c) {
+                tanımla x tür tamsayı başlangıç a + g1$
+                tanımla y tür tamsayı başlangıç b + g2$
+                tanımla z tür tamsayı başlangıç c + g3$
+                tanımla k tür tamsayı başlangıç 0$
+                böyleyken (k < %d) {
+                    x = y + z - g4 + a$
+                    y = z + x - g3 + b$
+                    z = x + y - g2 - g1 - c - x - y$
+                    k = k + 1$
+                }
+                dön x + y + z$
+            }
+            tanımla sonuc tür tamsayı başlangıç hesapla(1, 2, 3)$
+            """;
+
+    public static void main(String[] args) throws IOException {
+        String filter = null;
+        String json = null;
+        int warmup = 3;
+        int iterations = 5;
+        long time = 1000;
+        boolean list = false;
+        for (String arg : args) {
+            if (arg.equals("--list")) {
+                list = true;
+            } else if (arg.startsWith("--filter=")) {
+                filter = arg.substring("--filter=".length());
+            } else if (arg.startsWith("--json=")) {
+                json = arg.substring("--json=".length());
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+            } else if (arg.startsWith("--time=")) {
+                time = Long.parseLong(arg.substring("--time=".length()));
+            } else {
+                System.err.println("⚠️ Bilinmeyen seçenek: " + arg);
+                return;
+            }
+        }
+
+        List<Benchmark> selected = new ArrayList<>();
+        for (Benchmark benchmark : benchmarks()) {
+            if (filter == null || benchmark.id().contains(filter)) selected.add(benchmark);
+        }
+        if (list) {
+            selected.forEach(b -> System.out.println(b.id()));
+            return;
+        }
+
+        Harness harness = new Harness(warmup, iterations, time);
+        List<Harness.Result> results = new ArrayList<>();
+        for (Benchmark benchmark : selected) {
+            Harness.Result result = harness.run(benchmark);
+            results.add(result);
+            System.out.printf(Locale.ROOT, "%-50s %14.3f ± %10.3f ops/s%n",
+                    benchmark.id(), result.mean(), result.error());
+        }
+
+        if (json != null) {
+            try (Writer out = new OutputStreamWriter(Files.newOutputStream(Path.of(json)), StandardCharsets.UTF_8)) {
+                harness.writeJson(results, out);
+            }
+        }
+    }
+
+    static List<Benchmark> benchmarks() {
+        List<Benchmark> all = new ArrayList<>();
+
+        for (int lines : new int[] { 100, 1_000, 10_000 }) {
+            all.add(new Benchmark("lexer.tokenize", Map.of("lines", String.valueOf(lines)), () -> {
+                String source = repeatLines(SAMPLE, lines);
+                Lexer lexer = new Lexer();
+                return () -> lexer.tokenize(source);
+            }));
+        }
+
+        for (int depth : new int[] { 50, 500 }) {
+            all.add(new Benchmark("parser.deepExpression", Map.of("depth", String.valueOf(depth)), () -> {
+                List<Token> tokens = new Lexer().tokenize(deepExpression(depth));
+                return () -> new Parser().parse(tokens);
+            }));
+        }
+        for (int statements : new int[] { 1_000, 10_000 }) {
+            all.add(new Benchmark("parser.statementList", Map.of("statements", String.valueOf(statements)), () -> {
+                List<Token> tokens = new Lexer().tokenize(statementList(statements));
+                return () -> new Parser().parse(tokens);
+            }));
+        }
+
+        for (String engine : new String[] { "tree", "vm" }) {
+            all.add(execution("interpreter.recursion", engine, "n", 20, FIB));
+            all.add(execution("interpreter.nestedLoops", engine, "n", 200, NESTED_LOOPS));
+            all.add(execution("interpreter.concat", engine, "n", 1_000, CONCAT));
+            all.add(execution("interpreter.lookup", engine, "n", 10_000, LOOKUP));
+            all.add(execution("interpreter.smallCalls", engine, "n", 10_000, SMALL_CALLS));
+        }
+
+        // Birleştirme doğrusal ise n on katına çıktığında saniyedeki işlem sayısı
+        // da yaklaşık on kat düşer; karesel ise yüz kat
+        for (String engine : new String[] { "tree", "vm" }) {
+            for (int n : new int[] { 1_000, 10_000, 100_000 }) {
+                all.add(execution("interpreter.buildString", engine, "n", n, BUILD_STRING));
+            }
+        }
+
+        // Önbelleğin sıcak başlangıcı ile önbelleksiz derlemenin karşılaştırması
+        for (int lines : new int[] { 1_000, 10_000 }) {
+            String source = repeatLines(SAMPLE, lines);
+            all.add(new Benchmark("startup.compile", Map.of("lines", String.valueOf(lines)),
+                    () -> () -> compile(source)));
+            all.add(new Benchmark("startup.cacheLoad", Map.of("lines", String.valueOf(lines)), () -> {
+                try {
+                    Path directory = Files.createTempDirectory("gokdil-bench");
+                    ProgramCache cache = new ProgramCache(directory);
+                    byte[] key = cache.key(source, "O1");
+                    cache.store(key, compile(source));
+                    // Silme sırası kaydın tersidir: önce dosyalar, sonra dizin
+                    directory.toFile().deleteOnExit();
+                    try (var files = Files.list(directory)) {
+                        files.forEach(file -> file.toFile().deleteOnExit());
+                    }
+                    return () -> cache.load(key);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        return all;
+    }
+
+    /** Verilen programı seçilen motorda, her işlemde yeni bir durumla çalıştırır. */
+    private static Benchmark execution(String name, String engine, String param, int size, String template) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("engine", engine);
+        params.put(param, String.valueOf(size));
+        return new Benchmark(name, params, () -> {
+            ASTNode.Program program = compile(String.format(template, size));
+            if (engine.equals("vm")) {
+                Chunk chunk = new vm.Compiler().compile(program);
+                return () -> {
+                    new VM().run(chunk);
+                    return chunk;
+                };
+            }
+            return () -> {
+                Interpreter interpreter = new Interpreter();
+                interpreter.execute(program);
+                return interpreter;
+            };
+        });
+    }
+
+    static ASTNode.Program compile(String source) {
+        ASTNode.Program program = new Parser().parse(new Lexer().tokenize(source));
+        new TypeChecker().check(program);
+        program = new Optimizer().optimize(program);
+        new Resolver().resolve(program);
+        return program;
+    }
+
+    static String repeatLines(String text, int lines) {
+        String[] parts = text.split("\n");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append(parts[i % parts.length]).append('\n');
+        }
+        // Yarım kalan bloğu kapat
+        int open = 0;
+        for (int i = 0; i < sb.length(); i++) {
+            if (sb.charAt(i) == '{') open++;
+            else if (sb.charAt(i) == '}') open--;
+        }
+        sb.append("}\n".repeat(Math.max(0, open)));
+        return sb.toString();
+    }
+
+    private static String deepExpression(int depth) {
+        StringBuilder sb = new StringBuilder("tanımla x tür tamsayı başlangıç ");
+        for (int i = 0; i < depth; i++) {
+            sb.append(i % 2 == 0 ? "1 + (" : "2 * (");
+        }
+        sb.append("x");
+        sb.append(")".repeat(depth)).append("$\n");
+        return sb.toString();
+    }
+
+    private static String statementList(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("tanımla d").append(i).append(" tür tamsayı başlangıç ").append(i).append(" * 2 + 1$\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,150 @@
+// === src/bench/Harness.java ===
+package bench;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Süreye dayalı ölçüm döngüsü. Her durum önce ısınma turlarında, sonra
+ * ölçüm turlarında çalıştırılır; her tur saniyedeki işlem sayısını verir.
+ * Sonuçlar JMH'nin JSON biçimiyle uyumlu yazılır, böylece aynı
+ * karşılaştırma araçlarıyla okunabilir.
+ */
+final class Harness {
+    /** Bir durumun ölçüm sonucu: tur başına saniyedeki işlem sayıları. */
+    static final class Result {
+        final Benchmark benchmark;
+        final double[] samples;
+
+        Result(Benchmark benchmark, double[] samples) {
+            this.benchmark = benchmark;
+            this.samples = samples;
+        }
+
+        double mean() {
+            double sum = 0;
+            for (double s : samples) sum += s;
+            return sum / samples.length;
+        }
+
+        /** %99.9 güven aralığının yarı genişliği (Student t dağılımı). */
+        double error() {
+            int n = samples.length;
+            if (n < 2) return Double.NaN;
+            double mean = mean();
+            double squares = 0;
+            for (double s : samples) squares += (s - mean) * (s - mean);
+            double stdDev = Math.sqrt(squares / (n - 1));
+            return studentT(n - 1) * stdDev / Math.sqrt(n);
+        }
+    }
+
+    // t(0.9995, df) değerleri, df = 1..10; daha büyük df için normal dağılım
+    private static final double[] T_999 = {
+        636.62, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587
+    };
+
+    private static double studentT(int df) {
+        return df <= T_999.length ? T_999[df - 1] : 3.291;
+    }
+
+    // Ölçülen işlemlerin sonuçları buraya yazılır; JIT sonuçları atamaz
+    private static volatile Object sink;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+
+    Harness(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    Result run(Benchmark benchmark) {
+        Supplier<Object> operation = benchmark.prepare();
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(operation);
+        }
+        double[] samples = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            samples[i] = iteration(operation);
+        }
+        return new Result(benchmark, samples);
+    }
+
+    /** Tur süresi dolana kadar işlemi çalıştırır; saniyedeki işlem sayısını döndürür. */
+    private double iteration(Supplier<Object> operation) {
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long ops = 0;
+        long now;
+        do {
+            sink = operation.get();
+            ops++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return ops * 1e9 / (now - start);
+    }
+
+    void writeJson(List<Result> results, Writer out) throws IOException {
+        out.write("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            double score = result.mean();
+            double error = result.error();
+            out.write("  {\n");
+            out.write("    \"benchmark\" : " + quote("bench." + result.benchmark.name) + ",\n");
+            out.write("    \"mode\" : \"thrpt\",\n");
+            out.write("    \"threads\" : 1,\n");
+            out.write("    \"forks\" : 1,\n");
+            out.write("    \"warmupIterations\" : " + warmupIterations + ",\n");
+            out.write("    \"warmupTime\" : \"" + iterationNanos / 1_000_000 + " ms\",\n");
+            out.write("    \"measurementIterations\" : " + measurementIterations + ",\n");
+            out.write("    \"measurementTime\" : \"" + iterationNanos / 1_000_000 + " ms\",\n");
+            if (!result.benchmark.params.isEmpty()) {
+                out.write("    \"params\" : {\n");
+                Iterator<Map.Entry<String, String>> it = result.benchmark.params.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<String, String> param = it.next();
+                    out.write("      " + quote(param.getKey()) + " : " + quote(param.getValue()) + (it.hasNext() ? ",\n" : "\n"));
+                }
+                out.write("    },\n");
+            }
+            out.write("    \"primaryMetric\" : {\n");
+            out.write("      \"score\" : " + number(score) + ",\n");
+            out.write("      \"scoreError\" : " + number(error) + ",\n");
+            out.write("      \"scoreConfidence\" : [ " + number(score - error) + ", " + number(score + error) + " ],\n");
+            out.write("      \"scoreUnit\" : \"ops/s\",\n");
+            StringJoiner raw = new StringJoiner(", ", "[ [ ", " ] ]");
+            for (double sample : result.samples) raw.add(number(sample));
+            out.write("      \"rawData\" : " + raw + "\n");
+            out.write("    }\n");
+            out.write(i + 1 < results.size() ? "  },\n" : "  }\n");
+        }
+        out.write("]\n");
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "\"NaN\"";
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
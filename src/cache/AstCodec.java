@@ -0,0 +1,397 @@
+// === src/cache/AstCodec.java ===
+package cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+import parser.DataType;
+import parser.Operator;
+
+/**
+ * Çözümlenmiş sözdizimi ağacının ikili biçimi. Ağaç, tip denetleyicisi ve
+ * çözümleyicinin yazdığı bilgilerle birlikte saklanır; geri okunan ağaç
+ * hiçbir geçişten geçirilmeden çalıştırılabilir.
+ *
+ * <p>Biçim: önce bir isim tablosu, ardından düğümler önce-kök sırasıyla.
+ * Her düğüm türünü ({@code Kind} sırası) ve satırını, sonra kendi
+ * alanlarını yazar. Tamsayılar değişken uzunlukta (LEB128) kodlanır.
+ */
+final class AstCodec {
+    private AstCodec() {}
+
+    /** Düğüm yapısında ya da anlamında bir değişiklik olduğunda artırılmalıdır. */
+    static final int VERSION = 4;
+
+    private static final int NONE = 0xFF;
+    private static final ASTNode.Kind[] KINDS = ASTNode.Kind.values();
+    private static final DataType[] TYPES = DataType.values();
+    private static final Operator[] OPERATORS = Operator.values();
+
+    static byte[] encode(ASTNode.Program program) {
+        Encoder encoder = new Encoder();
+        encoder.writeVarInt(program.frameSize);
+        encoder.writeNodes(program.statements);
+
+        // İsim tablosu, kullanıldığı düğümlerden önce okunabilsin diye başa eklenir
+        Encoder result = new Encoder();
+        result.writeVarInt(encoder.strings.size());
+        for (String s : encoder.strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            result.writeVarInt(bytes.length);
+            result.out.write(bytes, 0, bytes.length);
+        }
+        result.out.writeBytes(encoder.out.toByteArray());
+        return result.out.toByteArray();
+    }
+
+    static ASTNode.Program decode(ByteBuffer buffer) {
+        Decoder decoder = new Decoder(buffer);
+        int frameSize = decoder.readVarInt();
+        ASTNode.Program program = new ASTNode.Program(decoder.readNodes());
+        program.frameSize = frameSize;
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Artık bayt: " + buffer.remaining());
+        }
+        return program;
+    }
+
+    private static final class Encoder implements ASTVisitor<Void> {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final List<String> strings = new ArrayList<>();
+        final Map<String, Integer> stringIndex = new HashMap<>();
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeString(String s) {
+            writeVarInt(stringIndex.computeIfAbsent(s, k -> {
+                strings.add(s);
+                return strings.size() - 1;
+            }));
+        }
+
+        void writeEnum(Enum<?> value) {
+            out.write(value == null ? NONE : value.ordinal());
+        }
+
+        void writeNodes(List<ASTNode> nodes) {
+            writeVarInt(nodes.size());
+            for (ASTNode node : nodes) {
+                node.accept(this);
+            }
+        }
+
+        void header(ASTNode node) {
+            out.write(node.kind.ordinal());
+            writeVarInt(node.line);
+        }
+
+        void binding(int depth, int slot) {
+            out.write(depth);
+            writeVarInt(slot);
+        }
+
+        public Void visitProgram(ASTNode.Program node) {
+            throw new IllegalStateException("Program düğümü encode() ile yazılmalı");
+        }
+
+        public Void visitVarDecl(ASTNode.VarDecl node) {
+            header(node);
+            writeString(node.name);
+            writeEnum(node.dataType);
+            writeEnum(node.coerce);
+            binding(node.depth, node.slot);
+            node.initializer.accept(this);
+            return null;
+        }
+
+        public Void visitAssign(ASTNode.Assign node) {
+            header(node);
+            writeString(node.name);
+            writeEnum(node.coerce);
+            binding(node.depth, node.slot);
+            node.value.accept(this);
+            return null;
+        }
+
+        public Void visitPrint(ASTNode.Print node) {
+            header(node);
+            node.expression.accept(this);
+            return null;
+        }
+
+        public Void visitIf(ASTNode.If node) {
+            header(node);
+            node.condition.accept(this);
+            node.thenBranch.accept(this);
+            out.write(node.elseBranch == null ? 0 : 1);
+            if (node.elseBranch != null) node.elseBranch.accept(this);
+            return null;
+        }
+
+        public Void visitWhile(ASTNode.While node) {
+            header(node);
+            node.condition.accept(this);
+            node.body.accept(this);
+            return null;
+        }
+
+        public Void visitFunction(ASTNode.Function node) {
+            header(node);
+            writeString(node.name);
+            writeVarInt(node.params.size());
+            for (String param : node.params) {
+                writeString(param);
+            }
+            writeVarInt(node.frameSize);
+            out.write(node.memoPragma ? 1 : 0);
+            node.body.accept(this);
+            return null;
+        }
+
+        public Void visitReturn(ASTNode.Return node) {
+            header(node);
+            node.value.accept(this);
+            return null;
+        }
+
+        public Void visitBlock(ASTNode.Block node) {
+            header(node);
+            writeNodes(node.statements);
+            return null;
+        }
+
+        public Void visitCall(ASTNode.Call node) {
+            header(node);
+            writeString(node.name);
+            writeVarInt(node.site + 1);
+            writeNodes(node.args);
+            return null;
+        }
+
+        public Void visitComment(ASTNode.Comment node) {
+            header(node);
+            writeString(node.text);
+            return null;
+        }
+
+        public Void visitIntLit(ASTNode.IntLit node) {
+            header(node);
+            // Negatif sayılar da kısa kalsın diye zigzag kodlama
+            writeVarLong((node.value << 1) ^ (node.value >> 63));
+            return null;
+        }
+
+        public Void visitFloatLit(ASTNode.FloatLit node) {
+            header(node);
+            long bits = Double.doubleToRawLongBits(node.value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (bits >>> shift));
+            }
+            return null;
+        }
+
+        public Void visitStringLit(ASTNode.StringLit node) {
+            header(node);
+            writeString(node.value);
+            return null;
+        }
+
+        public Void visitBooleanLit(ASTNode.BooleanLit node) {
+            header(node);
+            out.write(node.value ? 1 : 0);
+            return null;
+        }
+
+        public Void visitVar(ASTNode.Var node) {
+            header(node);
+            writeString(node.name);
+            binding(node.depth, node.slot);
+            return null;
+        }
+
+        public Void visitBinOp(ASTNode.BinOp node) {
+            header(node);
+            writeEnum(node.op);
+            writeEnum(node.operandType);
+            writeVarInt(node.site + 1);
+            node.left.accept(this);
+            node.right.accept(this);
+            return null;
+        }
+
+        public Void visitInputPrompt(ASTNode.InputPrompt node) {
+            header(node);
+            writeString(node.prompt);
+            return null;
+        }
+    }
+
+    private static final class Decoder {
+        final ByteBuffer in;
+        final String[] strings;
+
+        Decoder(ByteBuffer in) {
+            this.in = in;
+            strings = new String[readVarInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readVarInt()];
+                in.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Geçersiz sayı kodlaması");
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        String readString() {
+            return strings[readVarInt()];
+        }
+
+        <E> E readEnum(E[] values) {
+            int ordinal = in.get() & 0xFF;
+            return ordinal == NONE ? null : values[ordinal];
+        }
+
+        List<ASTNode> readNodes() {
+            int count = readVarInt();
+            List<ASTNode> nodes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                nodes.add(readNode());
+            }
+            return nodes;
+        }
+
+        ASTNode.Block readBlock() {
+            return (ASTNode.Block) readNode();
+        }
+
+        ASTNode readNode() {
+            ASTNode.Kind kind = KINDS[in.get()];
+            int line = readVarInt();
+            switch (kind) {
+                case VAR_DECL -> {
+                    String name = readString();
+                    DataType dataType = readEnum(TYPES);
+                    DataType coerce = readEnum(TYPES);
+                    int depth = in.get();
+                    int slot = readVarInt();
+                    ASTNode.VarDecl node = new ASTNode.VarDecl(name, dataType, readNode(), line);
+                    node.coerce = coerce;
+                    node.depth = depth;
+                    node.slot = slot;
+                    return node;
+                }
+                case ASSIGN -> {
+                    String name = readString();
+                    DataType coerce = readEnum(TYPES);
+                    int depth = in.get();
+                    int slot = readVarInt();
+                    ASTNode.Assign node = new ASTNode.Assign(name, readNode(), line);
+                    node.coerce = coerce;
+                    node.depth = depth;
+                    node.slot = slot;
+                    return node;
+                }
+                case PRINT -> {
+                    return new ASTNode.Print(readNode(), line);
+                }
+                case IF -> {
+                    ASTNode condition = readNode();
+                    ASTNode.Block thenBranch = readBlock();
+                    ASTNode elseBranch = in.get() == 0 ? null : readNode();
+                    return new ASTNode.If(condition, thenBranch, elseBranch, line);
+                }
+                case WHILE -> {
+                    ASTNode condition = readNode();
+                    return new ASTNode.While(condition, readBlock(), line);
+                }
+                case FUNCTION -> {
+                    String name = readString();
+                    List<String> params = new ArrayList<>();
+                    for (int i = readVarInt(); i > 0; i--) {
+                        params.add(readString());
+                    }
+                    int frameSize = readVarInt();
+                    boolean memoPragma = in.get() != 0;
+                    ASTNode.Function node = new ASTNode.Function(name, params, readBlock(), line);
+                    node.frameSize = frameSize;
+                    node.memoPragma = memoPragma;
+                    return node;
+                }
+                case RETURN -> {
+                    return new ASTNode.Return(readNode(), line);
+                }
+                case BLOCK -> {
+                    return new ASTNode.Block(readNodes(), line);
+                }
+                case CALL -> {
+                    String name = readString();
+                    int site = readVarInt() - 1;
+                    ASTNode.Call node = new ASTNode.Call(name, readNodes(), line);
+                    node.site = site;
+                    return node;
+                }
+                case COMMENT -> {
+                    return new ASTNode.Comment(readString(), line);
+                }
+                case INT_LIT -> {
+                    long zigzag = readVarLong();
+                    return new ASTNode.IntLit((zigzag >>> 1) ^ -(zigzag & 1), line);
+                }
+                case FLOAT_LIT -> {
+                    return new ASTNode.FloatLit(Double.longBitsToDouble(in.getLong()), line);
+                }
+                case STRING_LIT -> {
+                    return new ASTNode.StringLit(readString(), line);
+                }
+                case BOOLEAN_LIT -> {
+                    return new ASTNode.BooleanLit(in.get() != 0, line);
+                }
+                case VAR -> {
+                    ASTNode.Var node = new ASTNode.Var(readString(), line);
+                    node.depth = in.get();
+                    node.slot = readVarInt();
+                    return node;
+                }
+                case BIN_OP -> {
+                    Operator op = readEnum(OPERATORS);
+                    DataType operandType = readEnum(TYPES);
+                    int site = readVarInt() - 1;
+                    ASTNode left = readNode();
+                    ASTNode.BinOp node = new ASTNode.BinOp(op, left, readNode(), line);
+                    node.operandType = operandType;
+                    node.site = site;
+                    return node;
+                }
+                case INPUT_PROMPT -> {
+                    return new ASTNode.InputPrompt(readString(), line);
+                }
+                default -> throw new IllegalArgumentException("Geçersiz düğüm: " + kind);
+            }
+        }
+    }
+}
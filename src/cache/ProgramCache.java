@@ -0,0 +1,114 @@
+// === src/cache/ProgramCache.java ===
+package cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+import parser.ASTNode;
+
+/**
+ * Derlenmiş programları diskte saklayan önbellek. Anahtar, kaynak metnin ve
+ * derleyici sürümünün SHA-256 özetidir; aynı betik tekrar çalıştırıldığında
+ * sözcük ve sözdizimi çözümlemesi tamamen atlanır.
+ *
+ * <p>Dosya düzeni: sihirli sayı, biçim sürümü, anahtar (32 bayt), gövde
+ * uzunluğu, gövdenin CRC32 değeri ve {@link AstCodec} gövdesi. Bu
+ * denetimlerden biri tutmayan dosya yok sayılır ve yeniden yazılır.
+ */
+public final class ProgramCache {
+    private static final int MAGIC = 0x474F4B44; // "GOKD"
+    private static final int HEADER_SIZE = 4 + 4 + 32 + 4 + 4;
+    private static final String SUFFIX = ".gkc";
+
+    private final Path directory;
+
+    public ProgramCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /** Varsayılan önbellek dizini: {@code ~/.cache/gokdil}. */
+    public static Path defaultDirectory() {
+        return Path.of(System.getProperty("user.home"), ".cache", "gokdil");
+    }
+
+    /**
+     * Kaynak metin ve derleme seçenekleri için önbellek anahtarı. Seçenekler
+     * üretilen ağacı etkilediği için anahtara dahildir.
+     */
+    public byte[] key(String source, String options) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(("gokdil/" + AstCodec.VERSION + "/" + options + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(source.getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+
+    private Path pathFor(byte[] key) {
+        return directory.resolve(HexFormat.of().formatHex(key) + SUFFIX);
+    }
+
+    /**
+     * Anahtara karşılık gelen programı bellek eşlemeli okumayla yükler.
+     * Kayıt yoksa ya da geçersizse {@code null} döner.
+     */
+    public ASTNode.Program load(byte[] key) {
+        Path path = pathFor(key);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) return null;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != AstCodec.VERSION) return null;
+            byte[] stored = new byte[32];
+            buffer.get(stored);
+            if (!Arrays.equals(stored, key)) return null;
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length != buffer.remaining()) return null;
+
+            ByteBuffer body = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) return null;
+            return AstCodec.decode(body);
+        } catch (IOException | RuntimeException e) {
+            // Kayıt yok, bozuk ya da okunamıyor: önbellekte yokmuş gibi davran
+            return null;
+        }
+    }
+
+    /**
+     * Programı önbelleğe yazar. Önce geçici bir dosyaya yazılıp yerine
+     * taşınır; aynı anda çalışan süreçler yarım yazılmış dosya görmez.
+     */
+    public void store(byte[] key, ASTNode.Program program) throws IOException {
+        byte[] body = AstCodec.encode(program);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + body.length);
+        buffer.putInt(MAGIC).putInt(AstCodec.VERSION).put(key)
+              .putInt(body.length).putInt((int) crc.getValue()).put(body);
+
+        Files.createDirectories(directory);
+        Path target = pathFor(key);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, buffer.array());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
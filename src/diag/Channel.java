@@ -0,0 +1,7 @@
+// === src/diag/Channel.java ===
+package diag;
+
+/** Tanılama mesajlarının kaynağı; her kanalın düzeyi ayrı ayarlanır. */
+public enum Channel {
+    MAIN, LEXER, PARSER, TOKENS, AST, BYTECODE
+}
@@ -0,0 +1,47 @@
+// === src/diag/Diagnostics.java ===
+package diag;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Lexer, Parser ve Main için düzeyli tanılama çıktısı. Varsayılan olarak
+ * tüm kanallar sessizdir; çağıranlar mesaj metnini oluşturmadan önce
+ * {@link #isEnabled} ile kontrol etmelidir ki kapalıyken hiç metin üretilmesin.
+ */
+public final class Diagnostics {
+    private static final Diagnostics SILENT = new Diagnostics(Sink.to(System.err));
+
+    private final Map<Channel, Level> levels = new EnumMap<>(Channel.class);
+    private final Sink sink;
+
+    public Diagnostics(Sink sink) {
+        this.sink = sink;
+        for (Channel channel : Channel.values()) {
+            levels.put(channel, Level.SILENT);
+        }
+    }
+
+    /** Hiçbir şey yazmayan paylaşılan örnek. */
+    public static Diagnostics silent() {
+        return SILENT;
+    }
+
+    public Diagnostics enable(Channel channel, Level level) {
+        if (this == SILENT) {
+            throw new IllegalStateException("Sessiz tanılama örneği değiştirilemez");
+        }
+        levels.put(channel, level);
+        return this;
+    }
+
+    public boolean isEnabled(Channel channel, Level level) {
+        return levels.get(channel).compareTo(level) >= 0;
+    }
+
+    public void log(Channel channel, Level level, String message) {
+        if (isEnabled(channel, level)) {
+            sink.write(channel, level, message);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+// === src/diag/Level.java ===
+package diag;
+
+/** Tanılama ayrıntı düzeyleri; sıralama önemlidir (SILENT en az ayrıntı). */
+public enum Level {
+    SILENT, INFO, TRACE
+}
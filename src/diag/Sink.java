@@ -0,0 +1,14 @@
+// === src/diag/Sink.java ===
+package diag;
+
+import java.io.PrintStream;
+
+/** Tanılama mesajlarının yazıldığı hedef. */
+@FunctionalInterface
+public interface Sink {
+    void write(Channel channel, Level level, String message);
+
+    static Sink to(PrintStream stream) {
+        return (channel, level, message) -> stream.println(message);
+    }
+}
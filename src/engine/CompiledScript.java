@@ -0,0 +1,111 @@
+// === src/engine/CompiledScript.java ===
+package engine;
+
+import interpreter.Interpreter;
+import interpreter.Operations;
+import java.util.Map;
+import java.util.Set;
+import parser.ASTNode;
+import parser.DataType;
+import vm.Chunk;
+import vm.VM;
+
+/**
+ * Derlenmiş, değişmez program. Çalışma durumu (global değişkenler,
+ * fonksiyon tablosu, girdi ve çıktı) her çalıştırmada yeniden oluşturulur;
+ * bu yüzden aynı örnek birden fazla iş parçacığında eşzamanlı çalıştırılabilir.
+ */
+public final class CompiledScript {
+    private final ASTNode.Program program;
+    private final Chunk chunk;
+    private final Map<String, Integer> globals;
+    // Bildirilen tipler; derlenmiş kod bu tiplere güvenerek tip sınamasını atlar
+    private final Map<String, DataType> types;
+
+    CompiledScript(ASTNode.Program program, Chunk chunk, Map<String, Integer> globals, Map<String, DataType> types) {
+        this.program = program;
+        this.chunk = chunk;
+        this.globals = globals;
+        this.types = types;
+    }
+
+    /**
+     * Programın tanımladığı ya da tanımlamadan kullandığı global değişken
+     * isimleri. Tanımlamadan kullanılanlar çalıştırmadan önce
+     * {@link ExecutionContext#set} ile verilebilir.
+     */
+    public Set<String> globalNames() {
+        return globals.keySet();
+    }
+
+    /**
+     * Programı verilen bağlamda çalıştırır. Bağlamdaki değerler programın
+     * global değişkenlerine yüklenir; program bittiğinde global
+     * değişkenlerin son değerleri bağlama geri yazılır. Çalışma zamanı
+     * hataları {@code RuntimeException} olarak fırlatılır. {@code tür} ile
+     * tanımlanan bir değişkene verilen değer o tipe uymalıdır; tamsayı,
+     * ondalık değişkene genişletilerek verilir.
+     *
+     * <p>Ağaç yorumlayıcısı çağıran iş parçacığının yığınını kullanır; yığın
+     * tükenirse {@link error.CallDepthExceededException} fırlatılır. Derin
+     * özyineleme için yığın boyutunun {@link GokDil} belgesine bakın.
+     */
+    public void run(ExecutionContext context) {
+        try {
+            if (chunk != null) {
+                VM vm = new VM(context.getOutput(), context.input(), context.getLimits());
+                vm.ensureGlobals(chunk.frameSize);
+                bind(context, vm::setGlobal);
+                try {
+                    vm.run(chunk);
+                } finally {
+                    collect(context, vm::getGlobal);
+                }
+            } else {
+                Interpreter interpreter = new Interpreter(context.getOutput(), context.input(), context.getLimits());
+                interpreter.setMetrics(context.getMetrics());
+                interpreter.ensureGlobals(program.frameSize);
+                bind(context, interpreter::setGlobal);
+                try {
+                    interpreter.execute(program);
+                } finally {
+                    collect(context, interpreter::getGlobal);
+                }
+            }
+        } finally {
+            context.getOutput().flush();
+        }
+    }
+
+    private interface GlobalWriter {
+        void set(int slot, Object value);
+    }
+
+    private interface GlobalReader {
+        Object get(int slot);
+    }
+
+    private void bind(ExecutionContext context, GlobalWriter writer) {
+        context.values().forEach((name, value) -> {
+            Integer slot = globals.get(name);
+            if (slot == null) return;
+            DataType type = types.get(name);
+            if (type != null) {
+                Object converted = Operations.conform(value, type);
+                if (converted == null) {
+                    throw new RuntimeException(String.format("Tip uyuşmazlığı: '%s' %s tipinde, %s değer verilemez",
+                            name, type, Operations.typeName(value)));
+                }
+                value = converted;
+            }
+            writer.set(slot, value);
+        });
+    }
+
+    private void collect(ExecutionContext context, GlobalReader reader) {
+        globals.forEach((name, slot) -> {
+            Object value = reader.get(slot);
+            if (value != null) context.values().put(name, value);
+        });
+    }
+}
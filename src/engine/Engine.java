@@ -0,0 +1,10 @@
+// === src/engine/Engine.java ===
+package engine;
+
+/** Derlenmiş programı çalıştıran motor. */
+public enum Engine {
+    /** Çözümlenmiş sözdizimi ağacını doğrudan yorumlar. */
+    TREE,
+    /** Programı bayt koduna derleyip yığın tabanlı VM'de çalıştırır. */
+    VM
+}
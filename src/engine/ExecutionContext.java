@@ -0,0 +1,116 @@
+// === src/engine/ExecutionContext.java ===
+package engine;
+
+import interpreter.Limits;
+import interpreter.Operations;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+import metrics.MetricsRegistry;
+import output.Output;
+import output.StringOutput;
+
+/**
+ * Tek bir çalıştırmanın durumu: global değişken değerleri, girdi, çıktı ve
+ * kaynak sınırları.
+ * Varsayılan olarak çıktı bellekte toplanır ({@link StringOutput}) ve girdi
+ * boştur; program bir istemde girdi beklerse hata verir.
+ *
+ * <p>İş parçacığı güvenli değildir; her çalıştırma kendi bağlamını kullanır.
+ */
+public final class ExecutionContext {
+    private final Map<String, Object> values = new HashMap<>();
+    private Output output = new StringOutput();
+    private Reader input = new StringReader("");
+    private Scanner scanner;
+    private Limits limits = Limits.NONE;
+    private MetricsRegistry metrics;
+
+    public ExecutionContext setOutput(Output output) {
+        this.output = output;
+        return this;
+    }
+
+    public Output getOutput() {
+        return output;
+    }
+
+    /**
+     * Çalıştırmanın kaynak sınırları. Aşılan sınır
+     * {@link error.LimitExceededException} alt sınıflarından biriyle bildirilir.
+     */
+    public ExecutionContext setLimits(Limits limits) {
+        this.limits = limits;
+        return this;
+    }
+
+    public Limits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Çalıştırmanın sayaçlarının yazılacağı kayıt; {@code null} ise ölçülmez.
+     * Aynı kayıt eşzamanlı çalıştırmalar arasında paylaşılabilir. Yalnızca
+     * ağaç yorumlayıcısı ölçülür.
+     */
+    public ExecutionContext setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    /** {@code ??istem??} ifadelerinin satır satır okuyacağı kaynak. */
+    public ExecutionContext setInput(Reader input) {
+        this.input = input;
+        this.scanner = null;
+        return this;
+    }
+
+    /**
+     * Global bir değişkene çalıştırmadan önce değer verir. Java tamsayıları
+     * {@code tamsayı}, kayan noktalı sayılar {@code ondalık}, karakter
+     * dizileri {@code yazı} olur.
+     */
+    public ExecutionContext set(String name, Object value) {
+        values.put(name, toValue(value));
+        return this;
+    }
+
+    /** Değişkenin değeri; çalıştırmadan sonra programın bıraktığı değerdir. */
+    public Object get(String name) {
+        return values.get(name);
+    }
+
+    /** Bütün global değişkenler, salt okunur. */
+    public Map<String, Object> getGlobals() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    Map<String, Object> values() {
+        return values;
+    }
+
+    Scanner input() {
+        if (scanner == null) scanner = new Scanner(input);
+        return scanner;
+    }
+
+    private static Object toValue(Object value) {
+        if (value instanceof Long || value instanceof Double || value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Operations.box(((Number) value).longValue());
+        }
+        if (value instanceof Float f) return f.doubleValue();
+        if (value instanceof CharSequence s) return s.toString();
+        throw new IllegalArgumentException("Desteklenmeyen değer tipi: "
+                + (value == null ? "null" : value.getClass().getName()));
+    }
+}
@@ -0,0 +1,93 @@
+// === src/engine/GokDil.java ===
+package engine;
+
+import analysis.PurityAnalyzer;
+import analysis.Resolver;
+import analysis.TypeChecker;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+import lexer.Lexer;
+import metrics.MetricsRegistry;
+import optimizer.Optimizer;
+import parser.ASTNode;
+import parser.Parser;
+import vm.Chunk;
+
+/**
+ * GökDil'i Java uygulamalarına gömmek için giriş noktası. Kaynak bir kez
+ * {@link CompiledScript} olarak derlenir, sonra her çalıştırma kendi
+ * {@link ExecutionContext} örneğiyle istenildiği kadar, aynı anda birden
+ * fazla iş parçacığından çalıştırılabilir.
+ *
+ * <pre>
+ * CompiledScript script = new GokDil().compile(kaynak);
+ * ExecutionContext context = new ExecutionContext().set("girdi", 42);
+ * script.run(context);
+ * String cikti = context.getOutput().toString();
+ * </pre>
+ *
+ * <p>Örnek değişmezdir ve iş parçacıkları arasında paylaşılabilir; her
+ * derleme kendi sözcük ve sözdizimi çözümleyicisini oluşturur.
+ *
+ * <p>Ağaç yorumlayıcısı GökDil çağrılarını çağıranın Java yığınında
+ * çalıştırır; kuyruk olmayan özyinelemenin ulaşabileceği derinlik
+ * {@link CompiledScript#run}'ı çağıran iş parçacığının yığınına bağlıdır.
+ * Komut satırı betikleri {@code --max-stack-bytes} (varsayılan 256 MB)
+ * boyutunda yığınla oluşturulmuş iş parçacıklarında çalıştırır; aynı
+ * davranış için gömülen betik de {@code new Thread(grup, iş, ad, boyut)}
+ * ile oluşturulan bir iş parçacığında çalıştırılmalıdır. VM motorunun
+ * çağrı çerçeveleri yığında değil bellekte tutulur, bu sınıra bağlı değildir.
+ */
+public final class GokDil {
+    private final Engine engine;
+    private final int optimizationLevel;
+    private final MetricsRegistry metrics;
+
+    /** Ağaç yorumlayıcısı ve iyileştirici açık ({@code -O1}) varsayılan ayarlar. */
+    public GokDil() {
+        this(Engine.TREE, 1);
+    }
+
+    public GokDil(Engine engine, int optimizationLevel) {
+        this(engine, optimizationLevel, null);
+    }
+
+    /** {@code metrics} verilirse sözcük ve sözdizimi çözümleme süreleri oraya yazılır. */
+    public GokDil(Engine engine, int optimizationLevel, MetricsRegistry metrics) {
+        if (optimizationLevel < 0 || optimizationLevel > 1) {
+            throw new IllegalArgumentException("Geçersiz iyileştirme düzeyi: " + optimizationLevel);
+        }
+        this.engine = engine;
+        this.optimizationLevel = optimizationLevel;
+        this.metrics = metrics;
+    }
+
+    public CompiledScript compile(String source) {
+        return compile(new StringReader(source));
+    }
+
+    /**
+     * Kaynağı çözümler, tiplerini denetler ve çalıştırılmaya hazır hale
+     * getirir. Sözdizimi ve tip hataları {@code RuntimeException} olarak
+     * fırlatılır.
+     */
+    public CompiledScript compile(Reader source) {
+        Lexer lexer = new Lexer();
+        Parser parser = new Parser();
+        lexer.setMetrics(metrics);
+        parser.setMetrics(metrics);
+        ASTNode.Program program = parser.parse(lexer.stream(source));
+        TypeChecker checker = new TypeChecker();
+        checker.check(program);
+        if (optimizationLevel > 0) {
+            program = new Optimizer().optimize(program);
+        }
+        Resolver resolver = new Resolver();
+        resolver.resolve(program);
+        new PurityAnalyzer(false).analyze(program);
+        Chunk chunk = engine == Engine.VM ? new vm.Compiler().compile(program) : null;
+        return new CompiledScript(program, chunk, Map.copyOf(resolver.globalNames()),
+                Map.copyOf(checker.globalTypes()));
+    }
+}
@@ -0,0 +1,88 @@
+// === src/engine/GokDilScriptEngine.java ===
+package engine;
+
+import java.io.Reader;
+import java.io.StringReader;
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import output.Output;
+
+/**
+ * {@code javax.script} (JSR-223) uyarlayıcısı. Betikler {@link GokDil} ile
+ * derlenir; bağlamın yazıcısı ve okuyucusu programın çıktısı ve girdisi
+ * olur. Programın kullandığı global değişkenler bağlamdaki değerlerle
+ * başlatılır, çalıştırmadan sonra son değerleri motor kapsamına yazılır.
+ * {@code eval} her zaman {@code null} döndürür.
+ */
+public final class GokDilScriptEngine extends AbstractScriptEngine implements Compilable {
+    private final GokDilScriptEngineFactory factory;
+    private final GokDil gokdil = new GokDil();
+
+    GokDilScriptEngine(GokDilScriptEngineFactory factory) {
+        this.factory = factory;
+    }
+
+    public Object eval(String script, ScriptContext context) throws ScriptException {
+        return eval(new StringReader(script), context);
+    }
+
+    public Object eval(Reader reader, ScriptContext context) throws ScriptException {
+        return execute(compileScript(reader), context);
+    }
+
+    public Bindings createBindings() {
+        return new SimpleBindings();
+    }
+
+    public ScriptEngineFactory getFactory() {
+        return factory;
+    }
+
+    public javax.script.CompiledScript compile(String script) throws ScriptException {
+        return compile(new StringReader(script));
+    }
+
+    public javax.script.CompiledScript compile(Reader script) throws ScriptException {
+        CompiledScript compiled = compileScript(script);
+        return new javax.script.CompiledScript() {
+            public Object eval(ScriptContext context) throws ScriptException {
+                return execute(compiled, context);
+            }
+
+            public javax.script.ScriptEngine getEngine() {
+                return GokDilScriptEngine.this;
+            }
+        };
+    }
+
+    private CompiledScript compileScript(Reader reader) throws ScriptException {
+        try {
+            return gokdil.compile(reader);
+        } catch (RuntimeException e) {
+            throw new ScriptException(e.getMessage());
+        }
+    }
+
+    private Object execute(CompiledScript script, ScriptContext context) throws ScriptException {
+        ExecutionContext execution = new ExecutionContext()
+                .setOutput(Output.of(context.getWriter()))
+                .setInput(context.getReader());
+        try {
+            for (String name : script.globalNames()) {
+                Object value = context.getAttribute(name);
+                if (value != null) execution.set(name, value);
+            }
+            script.run(execution);
+        } catch (RuntimeException e) {
+            throw new ScriptException(e.getMessage());
+        } finally {
+            context.getBindings(ScriptContext.ENGINE_SCOPE).putAll(execution.getGlobals());
+        }
+        return null;
+    }
+}
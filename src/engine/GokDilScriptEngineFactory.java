@@ -0,0 +1,68 @@
+// === src/engine/GokDilScriptEngineFactory.java ===
+package engine;
+
+import java.util.List;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+
+/** {@code ScriptEngineManager} tarafından {@code "gokdil"} adıyla bulunan fabrika. */
+public final class GokDilScriptEngineFactory implements ScriptEngineFactory {
+    private static final String VERSION = "1.0";
+
+    public String getEngineName() {
+        return "GökDil";
+    }
+
+    public String getEngineVersion() {
+        return VERSION;
+    }
+
+    public List<String> getExtensions() {
+        return List.of("gk");
+    }
+
+    public List<String> getMimeTypes() {
+        return List.of();
+    }
+
+    public List<String> getNames() {
+        return List.of("gokdil", "GökDil");
+    }
+
+    public String getLanguageName() {
+        return "GökDil";
+    }
+
+    public String getLanguageVersion() {
+        return VERSION;
+    }
+
+    public Object getParameter(String key) {
+        return switch (key) {
+            case ScriptEngine.ENGINE -> getEngineName();
+            case ScriptEngine.ENGINE_VERSION -> getEngineVersion();
+            case ScriptEngine.NAME -> getNames().get(0);
+            case ScriptEngine.LANGUAGE -> getLanguageName();
+            case ScriptEngine.LANGUAGE_VERSION -> getLanguageVersion();
+            // Her çalıştırma kendi durumunu kullanır; motor iş parçacıkları arasında paylaşılabilir
+            case "THREADING" -> "MULTITHREADED";
+            default -> null;
+        };
+    }
+
+    public String getMethodCallSyntax(String obj, String m, String... args) {
+        return m + "(" + String.join(", ", args) + ")";
+    }
+
+    public String getOutputStatement(String toDisplay) {
+        return "yazdır(\"" + toDisplay + "\")$";
+    }
+
+    public String getProgram(String... statements) {
+        return String.join("\n", statements) + "\n";
+    }
+
+    public ScriptEngine getScriptEngine() {
+        return new GokDilScriptEngine(this);
+    }
+}
@@ -0,0 +1,14 @@
+// === src/error/CallDepthExceededException.java ===
+package error;
+
+/**
+ * Fonksiyon çağrıları izin verilen derinliği ya da Java yığınının
+ * kaldırabileceği derinliği aştığında fırlatılır.
+ */
+public class CallDepthExceededException extends LimitExceededException {
+    private static final long serialVersionUID = 1L;
+
+    public CallDepthExceededException(int line, String message) {
+        super(line, message);
+    }
+}
@@ -0,0 +1,11 @@
+// === src/error/DeadlineExceededException.java ===
+package error;
+
+/** Çalıştırma süresi dolduğunda fırlatılır. */
+public class DeadlineExceededException extends LimitExceededException {
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(int line, String message) {
+        super(line, message);
+    }
+}
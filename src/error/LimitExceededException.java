@@ -0,0 +1,22 @@
+// === src/error/LimitExceededException.java ===
+package error;
+
+/**
+ * Bir çalıştırma sınırı aşıldığında fırlatılır. Alt sınıflar hangi sınırın
+ * aşıldığını ayırt etmek için ayrı ayrı yakalanabilir.
+ */
+public class LimitExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int line;
+
+    public LimitExceededException(int line, String message) {
+        super("Satır " + line + ": " + message);
+        this.line = line;
+    }
+
+    /** Sınırın aşıldığı kaynak satırı. */
+    public int getLine() {
+        return line;
+    }
+}
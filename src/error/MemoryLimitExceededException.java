@@ -0,0 +1,11 @@
+// === src/error/MemoryLimitExceededException.java ===
+package error;
+
+/** Oluşturulan yazıların toplam boyutu sınırı aştığında fırlatılır. */
+public class MemoryLimitExceededException extends LimitExceededException {
+    private static final long serialVersionUID = 1L;
+
+    public MemoryLimitExceededException(int line, String message) {
+        super(line, message);
+    }
+}
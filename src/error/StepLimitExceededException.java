@@ -0,0 +1,11 @@
+// === src/error/StepLimitExceededException.java ===
+package error;
+
+/** Adım sınırı aşıldığında fırlatılır. */
+public class StepLimitExceededException extends LimitExceededException {
+    private static final long serialVersionUID = 1L;
+
+    public StepLimitExceededException(int line, String message) {
+        super(line, message);
+    }
+}
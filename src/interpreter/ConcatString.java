@@ -0,0 +1,106 @@
+// === src/interpreter/ConcatString.java ===
+package interpreter;
+
+/**
+ * Birleştirmeyle büyüyen {@code yazı} değeri. {@code metin = metin + "..."}
+ * döngülerinde her birleştirme metnin tamamını kopyalamasın diye karakterler
+ * paylaşılan bir arabellekte tutulur: değer arabelleğin ilk {@code length}
+ * karakteridir ve sona ekleme, arabellek başka bir değer tarafından
+ * uzatılmadıysa yerinde yapılır. Böylece art arda eklemeler ortalama O(1)
+ * olur; metin yalnızca yazdırılırken ya da karşılaştırılırken düz
+ * {@link String}'e çevrilir ve sonuç saklanır.
+ *
+ * <p>Bir değerin gördüğü karakterler hiçbir zaman değişmez; aynı değere iki
+ * farklı ek yapılırsa ikincisi arabelleği kopyalar. Arabellek eşzamanlı
+ * kullanıma karşı korunmaz; değerler tek bir çalıştırmanın içinde kalır,
+ * dışarı ({@code getGlobal}) düz yazı olarak verilir.
+ */
+public final class ConcatString implements CharSequence {
+    /** Bu uzunluğun altındaki birleştirmeler doğrudan {@link String} üretir. */
+    static final int MIN_LENGTH = 256;
+
+    private final StringBuilder buffer;
+    private final int length;
+    private String flat;
+
+    private ConcatString(StringBuilder buffer, int length) {
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    /**
+     * {@code left + right} yazı birleştirmesi; işlenenlerden en az biri
+     * yazıdır. Kısa sonuçlar {@link String}, uzunlar {@code ConcatString} olur.
+     */
+    static Object concat(Object left, Object right) {
+        String tail = String.valueOf(right);
+        if (left instanceof ConcatString rope) {
+            return rope.append(tail);
+        }
+        String head = String.valueOf(left);
+        int total = head.length() + tail.length();
+        if (total < MIN_LENGTH) {
+            return head + tail;
+        }
+        StringBuilder buffer = new StringBuilder(capacity(total));
+        buffer.append(head).append(tail);
+        return new ConcatString(buffer, total);
+    }
+
+    /**
+     * {@code left + ...} birleştirmesinin {@code result} için yeni ayırdığı
+     * karakter sayısı: arabellek yerinde uzatıldıysa yalnızca eklenenler,
+     * yeni bir yazı ya da arabellek oluştuysa sonucun tamamı.
+     */
+    static int allocated(Object left, CharSequence result) {
+        if (left instanceof ConcatString rope && result instanceof ConcatString grown && grown.buffer == rope.buffer) {
+            return grown.length - rope.length;
+        }
+        return result.length();
+    }
+
+    private ConcatString append(String tail) {
+        if (tail.isEmpty()) return this;
+        StringBuilder target = buffer;
+        if (buffer.length() != length) {
+            // Arabellek bu değerden türeyen başka bir değerce uzatılmış
+            target = new StringBuilder(capacity(length + tail.length()));
+            target.append(buffer, 0, length);
+        }
+        target.append(tail);
+        return new ConcatString(target, target.length());
+    }
+
+    /** Sonraki eklemeler için iki katı yer ayrılır. */
+    private static int capacity(int length) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, 2L * length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        return buffer.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String s = flat;
+        if (s == null) {
+            s = buffer.substring(0, length);
+            flat = s;
+        }
+        return s;
+    }
+}
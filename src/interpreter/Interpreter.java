@@ -1,264 +1,691 @@
 // === src/interpreter/Interpreter.java ===
 package interpreter;
 
+import error.CallDepthExceededException;
 import java.util.*;
+import jit.CompiledFunction;
+import jit.Deoptimization;
+import jit.JitCompiler;
+import jit.JitContext;
+import metrics.MetricsRegistry;
+import output.Output;
+import profile.Profiler;
+import profile.SpecializationReport;
 import parser.ASTNode;
+import parser.DataType;
 
+/**
+ * Çözümlenmiş ({@link analysis.Resolver}) sözdizimi ağacını yorumlar.
+ * Değişkenler düz {@code Object[]} çerçevelerde tutulur: global çerçeve
+ * ve o an çalışan fonksiyonun çerçevesi.
+ */
 public class Interpreter {
-    private final Deque<Map<String, Object>> scopes = new ArrayDeque<>();
+    /** Henüz tanımlanmamış global yuvaları işaretler. */
+    private static final Object UNDEFINED = new Object();
+
+    // Deyimlerin tamamlanma durumları: NORMAL ise sıradaki deyime geçilir,
+    // RETURN ise 'dön' çalışmıştır ve değeri returnValue alanındadır
+    private static final int NORMAL = 0;
+    private static final int RETURN = 1;
+
+    /**
+     * 'dön f(...)' deyiminin returnValue'ya bıraktığı işaret: çağrı yapılmadı,
+     * hedef ve argümanlar tail* alanlarındadır; çağıran {@link #invoke}
+     * kendi Java çerçevesinde çalıştırır.
+     */
+    private static final Object TAIL_CALL = new Object();
+
+    /** Bu derinliğe kadar çerçeveler havuzdan alınır; daha derin özyineleme her çağrıda ayırır. */
+    private static final int FRAME_POOL_DEPTH = 256;
+
+    /** Bu kadar geri dönüşten sonra fonksiyon kalıcı olarak yorumlanır. */
+    private static final int MAX_DEOPTIMIZATIONS = 3;
+
+    private Object[] globals = new Object[0];
+    private Object[] frame = globals;
+    private Object returnValue;
+    private Function tailFunction;
+    private String tailName;
+
+    // Argümanlar çağrı boyunca argStack[base .. base + n) yuvalarında durur
+    private Object[] argStack = new Object[64];
+    private int argSp;
+    // Çağrı derinliğine göre yeniden kullanılan çerçeveler
+    private final Object[][] framePool = new Object[FRAME_POOL_DEPTH][];
+    // Her fonksiyon tanımında artar; bağlı çağrı noktaları yeniden aranır
+    private int definitions;
+    // Çağrı düğümlerinin bağlandığı fonksiyonlar ve bağlandıkları andaki
+    // definitions değeri, Call.site ile indekslenir
+    private Function[] linked = new Function[0];
+    private int[] linkedDefinitions = new int[0];
+    // Tipi kanıtlanamamış işlemlerin bu çalıştırmadaki biçimleri, BinOp.site ile
+    // indekslenir. Derlenmiş ağaç iş parçacıkları arasında paylaşıldığından
+    // durum düğümde değil yorumlayıcıda tutulur.
+    private ASTNode.Specialization[] specializations = new ASTNode.Specialization[0];
+    private int[] rewrites = new int[0];
     private final Map<String, Function> functions = new HashMap<>();
-    private final Scanner scanner = new Scanner(System.in);
+    private final Scanner scanner;
+    private final Output output;
+
+    // Kaynak sınırları: countdown her deyimde azalır, bitince guard denetler
+    private final ResourceGuard guard;
+    private final boolean limitStrings;
+    private final int maxCallDepth;
+    private int countdown;
+    private int callDepth;
+    private int overflowDepth;
+
+    private Profiler profiler;
+    private RunMetrics metrics;
+
+    // Üst kademe derleyici; null ise her şey yorumlanır
+    private JitCompiler jit;
+    private final JitContext jitContext = this::callFromCompiled;
+    private final boolean limited;
+    private Function currentFunction;
+
+    // Saf fonksiyon sonuçları; ilk önbelleğe alınan çağrıda oluşturulur
+    private MemoCache memo;
+    private int memoCapacity = MemoCache.DEFAULT_CAPACITY;
+    // Önbelleğe alınan kuyruk çağrılarının anahtarları; zincirin sonucu
+    // belli olunca {@link #invoke} hepsini aynı sonuçla kaydeder
+    private Object[] pendingKeys = new Object[16];
+    private int pendingCount;
 
     public Interpreter() {
-        scopes.push(new HashMap<>()); // global scope
+        this(Output.of(System.out));
     }
 
-    public void execute(ASTNode node) {
-        switch (node.type) {
-            case "Program" -> {
-                for (ASTNode child : node.children) {
-                    execute(child);
-                }
+    public Interpreter(Output output) {
+        this(output, new Scanner(System.in));
+    }
+
+    public Interpreter(Output output, Scanner input) {
+        this(output, input, Limits.NONE);
+    }
+
+    public Interpreter(Output output, Scanner input, Limits limits) {
+        this.output = output;
+        this.scanner = input;
+        this.guard = new ResourceGuard(limits);
+        this.limitStrings = guard.limitsStrings();
+        this.maxCallDepth = limits.maxCallDepth;
+        this.limited = !limits.isUnlimited();
+        this.countdown = guard.start();
+    }
+
+    /** Profil çıkarmayı açar; {@code null} ise kapatır. */
+    public void setProfiler(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Ölçümleri açar; {@code null} ise kapatır. Sayımlar yorumlayıcıda
+     * biriktirilir, birkaç bin deyimde bir ve her {@link #execute} sonunda
+     * kayda aktarılır.
+     */
+    public void setMetrics(MetricsRegistry registry) {
+        this.metrics = registry == null ? null : new RunMetrics(registry);
+    }
+
+    /**
+     * Sık çağrılan yan etkisiz fonksiyonları JVM bayt koduna derler;
+     * {@code null} ise kapatır. Profil ya da kaynak sınırı açıkken derleme yapılmaz.
+     */
+    public void setJit(JitCompiler jit) {
+        this.jit = jit;
+    }
+
+    /** Saf fonksiyon önbelleğinin en fazla kayıt sayısı; önbellek oluşmadan önce çağrılmalıdır. */
+    public void setMemoCapacity(int capacity) {
+        this.memoCapacity = capacity;
+    }
+
+    /** Saf fonksiyon önbelleği; hiçbir çağrı önbelleğe alınmadıysa {@code null}. */
+    public MemoCache memoCache() {
+        return memo;
+    }
+
+    /** İşlem düğümlerinin bu yorumlayıcıda aldığı biçimler; {@link SpecializationReport} için. */
+    public SpecializationReport.States specializations() {
+        return new SpecializationReport.States() {
+            public ASTNode.Specialization specialization(ASTNode.BinOp node) {
+                return node.site < specializations.length
+                        ? specializations[node.site] : ASTNode.Specialization.UNINITIALIZED;
             }
-            case "VarDecl" -> {
-                String name = node.value;
-                String type = (String) evaluate(node.children.get(0));
-                Object value = evaluate(node.children.get(1));
-                define(name, value);
+
+            public int rewrites(ASTNode.BinOp node) {
+                return node.site < rewrites.length ? rewrites[node.site] : 0;
             }
-            case "Print" -> {
-                Object value = evaluate(node.children.get(0));
-                System.out.println(value);
+        };
+    }
+
+    public void execute(ASTNode node) {
+        if (metrics == null) {
+            executeTopLevel(node);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            executeTopLevel(node);
+        } finally {
+            metrics.flush(guard.steps(countdown));
+            metrics.executeTime.recordSince(start);
+        }
+    }
+
+    private void executeTopLevel(ASTNode node) {
+        if (exec(node) == RETURN) {
+            returnValue = null;
+            throw new RuntimeException("'dön' yalnızca fonksiyon içinde kullanılabilir");
+        }
+    }
+
+    /** Deyimi çalıştırır ve tamamlanma durumunu döndürür. */
+    private int exec(ASTNode node) {
+        if (--countdown < 0) {
+            countdown = guard.checkpoint(node.line);
+            if (metrics != null) metrics.flush(guard.steps(countdown));
+        }
+        // Bloklar açılış satırlarında ikinci kez sayılmasın
+        if (profiler != null && node.kind != ASTNode.Kind.BLOCK) profiler.line(node.line);
+        switch (node.kind) {
+            case PROGRAM -> {
+                ASTNode.Program program = (ASTNode.Program) node;
+                ensureGlobals(program.frameSize);
+                return execAll(program.statements);
             }
-            case "If" -> {
-                Object condition = evaluate(node.children.get(0));
-                if (toBoolean(condition)) {
-                    execute(node.children.get(1));
-                } else if (node.children.size() > 2) {
-                    execute(node.children.get(2));
+            case VAR_DECL -> {
+                ASTNode.VarDecl decl = (ASTNode.VarDecl) node;
+                Object value = evaluate(decl.initializer);
+                if (decl.coerce != null) value = Operations.coerce(value, decl.coerce, decl.line);
+                (decl.depth == ASTNode.LOCAL ? frame : globals)[decl.slot] = value;
+            }
+            case ASSIGN -> {
+                ASTNode.Assign assignment = (ASTNode.Assign) node;
+                Object value = evaluate(assignment.value);
+                if (assignment.coerce != null) value = Operations.coerce(value, assignment.coerce, assignment.line);
+                if (assignment.depth == ASTNode.LOCAL) {
+                    frame[assignment.slot] = value;
+                } else if (globals[assignment.slot] != UNDEFINED) {
+                    globals[assignment.slot] = value;
+                } else {
+                    throw new RuntimeException("Tanımsız değişken: " + assignment.name);
                 }
             }
-            case "While" -> executeWhile(node);
-            case "Function" -> {
-                String name = node.value;
-                List<String> params = new ArrayList<>();
-                for (int i = 0; i < node.children.size() - 1; i++) {
-                    params.add(node.children.get(i).value);
+            case PRINT -> {
+                Object value = evaluate(((ASTNode.Print) node).expression);
+                output.println(value);
+            }
+            case IF -> {
+                ASTNode.If ifNode = (ASTNode.If) node;
+                Object condition = evaluate(ifNode.condition);
+                if (Operations.toBoolean(condition)) {
+                    return exec(ifNode.thenBranch);
+                } else if (ifNode.elseBranch != null) {
+                    return exec(ifNode.elseBranch);
                 }
-                ASTNode body = node.children.get(node.children.size() - 1);
-                functions.put(name, new Function(params, body));
             }
-            case "Return" -> {
-                Object value = evaluate(node.children.get(0));
-                throw new ReturnValue(value);
+            case WHILE -> {
+                return executeWhile((ASTNode.While) node);
+            }
+            case FUNCTION -> {
+                ASTNode.Function function = (ASTNode.Function) node;
+                functions.put(function.name, new Function(function));
+                definitions++;
             }
-            case "Block" -> {
-                scopes.push(new HashMap<>());
-                for (ASTNode stmt : node.children) {
-                    execute(stmt);
+            case RETURN -> {
+                ASTNode value = ((ASTNode.Return) node).value;
+                if (value.kind == ASTNode.Kind.CALL && currentFunction != null) {
+                    return tailCall((ASTNode.Call) value);
                 }
-                scopes.pop();
+                returnValue = evaluate(value);
+                return RETURN;
             }
-            case "Call" -> evaluateCall(node);
-            case "Comment" -> {} // Yorum satırlarını görmezden gel
-            case "BinOp" -> evaluate(node); // BinOp düğümlerini evaluate et
-            default -> throw new RuntimeException("Bilinmeyen düğüm tipi: " + node.type);
+            case BLOCK -> {
+                if (metrics != null) metrics.scopes++;
+                return execAll(((ASTNode.Block) node).statements);
+            }
+            case CALL -> evaluateCall((ASTNode.Call) node);
+            case COMMENT -> {} // Yorum satırlarını görmezden gel
+            default -> throw new RuntimeException("Bilinmeyen düğüm tipi: " + node.kind);
         }
+        return NORMAL;
     }
 
-    private void executeWhile(ASTNode node) {
-        while (toBoolean(evaluate(node.children.get(0)))) {
-            execute(node.children.get(1));
+    private int execAll(List<ASTNode> statements) {
+        for (int i = 0, n = statements.size(); i < n; i++) {
+            if (exec(statements.get(i)) == RETURN) return RETURN;
         }
+        return NORMAL;
     }
 
-    private static class Function {
-        final List<String> params;
-        final ASTNode body;
-
-        Function(List<String> params, ASTNode body) {
-            this.params = params;
-            this.body = body;
+    private int executeWhile(ASTNode.While node) {
+        // Döngü dönüşleri, içinde bulunulan fonksiyonun derlenme sayacına eklenir
+        Function owner = jit != null ? currentFunction : null;
+        while (Operations.toBoolean(evaluate(node.condition))) {
+            if (exec(node.body) == RETURN) return RETURN;
+            if (owner != null) owner.backEdges++;
         }
+        return NORMAL;
     }
 
-    private static class ReturnValue extends RuntimeException {
-        private static final long serialVersionUID = 1L;
-        @SuppressWarnings("serial")
-        final transient Object value;
+    /**
+     * Global çerçeveyi çözümleyicinin ayırdığı yuva sayısına büyütür. Yeni
+     * yuvalar tanımsız olarak işaretlenir.
+     */
+    public void ensureGlobals(int size) {
+        if (globals.length >= size) return;
+        boolean atTopLevel = frame == globals;
+        int old = globals.length;
+        globals = Arrays.copyOf(globals, size);
+        Arrays.fill(globals, old, size, UNDEFINED);
+        if (atTopLevel) frame = globals;
+    }
+
+    /** Global yuvanın değeri; tanımsızsa {@code null}. */
+    public Object getGlobal(int slot) {
+        Object value = globals[slot];
+        return value == UNDEFINED ? null : Operations.flatten(value);
+    }
 
-        ReturnValue(Object value) {
-            this.value = value;
+    public void setGlobal(int slot, Object value) {
+        globals[slot] = value;
+    }
+
+    private static class Function {
+        final ASTNode.Function node;
+        final List<String> params;
+        final ASTNode.Block body;
+        final int frameSize;
+        final boolean memoize;
+
+        // Üst kademe derleme: çağrı ve döngü dönüşü sayıları eşiği aşınca
+        // derlenir; derlenemezse ya da sık geri dönülürse bir daha denenmez
+        int invocations;
+        int backEdges;
+        CompiledFunction compiled;
+        boolean interpretOnly;
+        int deoptimizations;
+
+        Function(ASTNode.Function node) {
+            this.node = node;
+            this.params = node.params;
+            this.body = node.body;
+            this.frameSize = node.frameSize;
+            this.memoize = node.memoize;
+            // Önbelleğe alınan fonksiyonun derlenmiş özyinelemesi önbelleği atlardı
+            this.interpretOnly = !node.pure || node.memoize;
         }
     }
 
     private Object evaluate(ASTNode node) {
-        return switch (node.type) {
-            case "IntLit" -> Integer.parseInt(node.value);
-            case "FloatLit" -> Double.parseDouble(node.value);
-            case "StringLit" -> node.value.replaceAll("\"", "");
-            case "BooleanLit" -> node.value.equals("doğru");
-            case "Var" -> lookup(node.value);
-            case "BinOp" -> evaluateBinaryOp(node);
-            case "Block" -> evaluateBlock(node);
-            case "Call" -> evaluateCall(node);
-            case "DataType" -> node.value;
-            case "InputPrompt" -> {
-                System.out.print(node.value + ": ");
-                yield scanner.nextLine();
+        return switch (node.kind) {
+            case INT_LIT -> ((ASTNode.IntLit) node).boxed;
+            case FLOAT_LIT -> ((ASTNode.FloatLit) node).boxed;
+            case STRING_LIT -> ((ASTNode.StringLit) node).value;
+            case BOOLEAN_LIT -> ((ASTNode.BooleanLit) node).value;
+            case VAR -> lookup((ASTNode.Var) node);
+            case BIN_OP -> evaluateBinaryOp((ASTNode.BinOp) node);
+            case CALL -> evaluateCall((ASTNode.Call) node);
+            case INPUT_PROMPT -> {
+                output.prompt(((ASTNode.InputPrompt) node).prompt + ": ");
+                String line = readLine();
+                if (limitStrings) guard.allocateString(line, node.line);
+                yield line;
             }
-            default -> throw new RuntimeException("Geçersiz ifade: " + node.type);
+            default -> throw new RuntimeException("Geçersiz ifade: " + node.kind);
         };
     }
 
-    private Object evaluateCall(ASTNode node) {
-        String name = node.value;
-        List<Object> args = new ArrayList<>();
-        
-        for (ASTNode arg : node.children) {
-            args.add(evaluate(arg));
+    private String readLine() {
+        if (metrics == null) return scanner.nextLine();
+        long start = System.nanoTime();
+        String line = scanner.nextLine();
+        metrics.inputWait.recordSince(start);
+        metrics.strings++;
+        return line;
+    }
+
+    private Object evaluateCall(ASTNode.Call node) {
+        int base = argSp;
+        try {
+            pushArgs(node, base);
+            return call(node.name, node.line, link(node), base);
+        } finally {
+            argSp = base;
+        }
+    }
+
+    /** Argümanları hesaplayıp {@code argStack[base ..]} yuvalarına yazar. */
+    private void pushArgs(ASTNode.Call node, int base) {
+        List<ASTNode> args = node.args;
+        int count = args.size();
+        // Yuvalar önce ayrılır; argümanlardaki çağrılar bunların üstünü kullanır
+        if (base + count > argStack.length) {
+            argStack = Arrays.copyOf(argStack, Math.max(base + count, argStack.length * 2));
         }
-        
-        if (name.equals("yazdır")) {
-            System.out.println(args.get(0));
-            return null;
+        argSp = base + count;
+        for (int i = 0; i < count; i++) {
+            // Değerlendirme yığını büyütebilir; dizi değerden sonra okunmalı
+            Object value = evaluate(args.get(i));
+            argStack[base + i] = value;
         }
-        
+    }
+
+    /**
+     * Çağrı düğümünün hedefi. İlk çağrıda isimle aranır, parametre sayısı
+     * denetlenir ve sonuç çağrının numarasıyla bu yorumlayıcıda saklanır;
+     * sonraki çağrılar, o zamandan beri hiçbir fonksiyon tanımlanmadıysa
+     * aramayı atlar. Ağaç paylaşıldığından bağlantı düğüme yazılmaz.
+     */
+    private Function link(ASTNode.Call node) {
+        int site = node.site;
+        if (site >= linked.length) growLinks(site);
+        Function cached = linked[site];
+        if (cached != null && linkedDefinitions[site] == definitions) return cached;
+        String name = node.name;
         Function function = functions.get(name);
         if (function == null) {
             throw new RuntimeException("Tanımlanmamış fonksiyon: " + name);
         }
-        
-        if (args.size() != function.params.size()) {
+        if (node.args.size() != function.params.size()) {
             throw new RuntimeException("Fonksiyon " + name + " " + function.params.size() +
-                    " parametre bekliyor, ancak " + args.size() + " parametre verildi");
-        }
-        
-        // Yeni bir scope oluştur
-        scopes.push(new HashMap<>());
-        
-        // Parametreleri bağla
-        for (int i = 0; i < args.size(); i++) {
-            define(function.params.get(i), args.get(i));
+                    " parametre bekliyor, ancak " + node.args.size() + " parametre verildi");
         }
-        
-        // Fonksiyon gövdesini çalıştır
-        Object result = null;
-        try {
-            execute(function.body);
-            return null;
-        } catch (ReturnValue returnValue) {
-            result = returnValue.value;
-        } finally {
-            scopes.pop();
-        }
-        
-        return result;
+        linked[site] = function;
+        linkedDefinitions[site] = definitions;
+        return function;
+    }
+
+    /** Akış kipinde çözümleyici yeni çağrıları numaraladıkça diziler büyür. */
+    private void growLinks(int site) {
+        int size = Math.max(site + 1, 2 * linked.length);
+        linked = Arrays.copyOf(linked, size);
+        linkedDefinitions = Arrays.copyOf(linkedDefinitions, size);
     }
 
-    private Object evaluateBinaryOp(ASTNode node) {
-        if (node.value.equals("=")) {
-            String name = node.children.get(0).value;
-            Object value = evaluate(node.children.get(1));
-            assign(name, value);
-            return value;
+    /**
+     * Fonksiyon içindeki 'dön f(...)': argümanlar hesaplanır ama çağrı
+     * {@link #invoke} döngüsüne bırakılır, böylece kuyruk özyinelemesi Java
+     * yığınını büyütmez. Argümanlar yığında kalır, {@link #invoke} alır.
+     * Önbelleğe alınan fonksiyonun sonucu önbellekteyse çağrı yapılmaz;
+     * değilse anahtar bekleyenlere eklenir ve zincir bitince kaydedilir.
+     */
+    private int tailCall(ASTNode.Call node) {
+        int base = argSp;
+        pushArgs(node, base);
+        Function function = link(node);
+        if (function.memoize) {
+            if (memo == null) memo = new MemoCache(memoCapacity);
+            Object key = MemoCache.key(function, Arrays.copyOfRange(argStack, base, base + function.params.size()));
+            Object cached = memo.get(key);
+            if (cached != MemoCache.MISSING) {
+                if (metrics != null) metrics.memoHits++;
+                Arrays.fill(argStack, base, argSp, null);
+                argSp = base;
+                returnValue = cached;
+                return RETURN;
+            }
+            if (metrics != null) metrics.memoMisses++;
+            if (pendingCount == pendingKeys.length) pendingKeys = Arrays.copyOf(pendingKeys, 2 * pendingCount);
+            pendingKeys[pendingCount++] = key;
         }
+        tailFunction = function;
+        tailName = node.name;
+        returnValue = TAIL_CALL;
+        return RETURN;
+    }
 
-        Object left = evaluate(node.children.get(0));
-        Object right = evaluate(node.children.get(1));
-        return switch (node.value) {
-            case "+" -> {
-                if (left instanceof String || right instanceof String) {
-                    yield String.valueOf(left) + String.valueOf(right);
-                }
-                yield toNumber(left) + toNumber(right);
+    /** Argümanları {@code argStack[base ..]} yuvalarında bulunan çağrı. */
+    private Object call(String name, int line, Function function, int base) {
+        if (function.memoize) {
+            if (memo == null) memo = new MemoCache(memoCapacity);
+            Object key = MemoCache.key(function, Arrays.copyOfRange(argStack, base, base + function.params.size()));
+            Object cached = memo.get(key);
+            if (cached != MemoCache.MISSING) {
+                if (metrics != null) metrics.memoHits++;
+                return cached;
             }
-            case "-" -> toNumber(left) - toNumber(right);
-            case "*" -> toNumber(left) * toNumber(right);
-            case "/" -> {
-                double r = toNumber(right);
-                if (r == 0) throw new ArithmeticException("Sıfıra bölme hatası!");
-                yield toNumber(left) / r;
+            if (metrics != null) metrics.memoMisses++;
+            Object result = dispatch(name, line, function, base);
+            memo.put(key, result);
+            return result;
+        }
+        return dispatch(name, line, function, base);
+    }
+
+    /** Fonksiyon derlenmişse derlenmiş koda, değilse sözdizimi ağacına yönlendirir. */
+    private Object dispatch(String name, int line, Function function, int base) {
+        if (jit != null && !function.interpretOnly) {
+            if (function.compiled == null && ++function.invocations + function.backEdges >= jit.threshold()) {
+                tierUp(function);
             }
-            case "%" -> {
-                double r = toNumber(right);
-                if (r == 0) throw new ArithmeticException("Sıfıra bölme hatası!");
-                yield toNumber(left) % r;
+            if (function.compiled != null) {
+                long[] values = new long[function.params.size()];
+                for (int i = 0; i < values.length; i++) {
+                    if (!(argStack[base + i] instanceof Long value)) {
+                        deoptimize(function);
+                        return invoke(name, line, function, base);
+                    }
+                    values[i] = value;
+                }
+                try {
+                    return Operations.box(function.compiled.call(jitContext, values));
+                } catch (Deoptimization | StackOverflowError e) {
+                    // Fonksiyon yan etkisiz; baştan yorumlamak güvenlidir. Yığın
+                    // taşması da yorumlanarak çağrı derinliğiyle bildirilir.
+                    deoptimize(function);
+                }
             }
-            case "==" -> left.equals(right);
-            case ">" -> toNumber(left) > toNumber(right);
-            case "<" -> toNumber(left) < toNumber(right);
-            case ">=" -> toNumber(left) >= toNumber(right);
-            case "<=" -> toNumber(left) <= toNumber(right);
-            case "ve" -> toBoolean(left) && toBoolean(right);
-            case "veya" -> toBoolean(left) || toBoolean(right);
-            default -> throw new RuntimeException("Bilinmeyen işlem: " + node.value);
-        };
+        }
+        return invoke(name, line, function, base);
     }
 
-    private void define(String name, Object value) {
-        scopes.peek().put(name, value);
+    private void tierUp(Function function) {
+        // Derlenmiş kod adım, derinlik ve süre sayaçlarını güncellemez, profil
+        // satırlarını bildirmez; bunlar açıkken yorumlamaya devam edilir
+        if (profiler != null || limited) {
+            function.interpretOnly = true;
+            return;
+        }
+        function.compiled = jit.compile(function.node);
+        if (function.compiled == null) function.interpretOnly = true;
     }
 
-    private void assign(String name, Object value) {
-        for (Map<String, Object> scope : scopes) {
-            if (scope.containsKey(name)) {
-                scope.put(name, value);
-                return;
-            }
+    private void deoptimize(Function function) {
+        jit.deoptimized();
+        if (++function.deoptimizations >= MAX_DEOPTIMIZATIONS) {
+            function.compiled = null;
+            function.interpretOnly = true;
         }
-        throw new RuntimeException("Tanımsız değişken: " + name);
     }
 
-    private Object lookup(String name) {
-        for (Map<String, Object> scope : scopes) {
-            if (scope.containsKey(name)) return scope.get(name);
+    /** Derlenmiş kodun yaptığı, kendisi dışındaki fonksiyon çağrıları. */
+    private long callFromCompiled(String name, int line, long[] values) {
+        Function function = functions.get(name);
+        if (function == null || function.params.size() != values.length) {
+            // Hata, çağıran fonksiyon yorumlanırken olağan biçimde verilir
+            throw Deoptimization.INSTANCE;
         }
-        throw new RuntimeException("Tanımsız değişken: " + name);
+        int base = argSp;
+        if (base + values.length > argStack.length) {
+            argStack = Arrays.copyOf(argStack, Math.max(base + values.length, argStack.length * 2));
+        }
+        for (int i = 0; i < values.length; i++) {
+            argStack[base + i] = Operations.box(values[i]);
+        }
+        argSp = base + values.length;
+        Object result;
+        try {
+            result = call(name, line, function, base);
+        } finally {
+            argSp = base;
+        }
+        if (result instanceof Long value) return value;
+        throw Deoptimization.INSTANCE;
     }
 
-    private boolean toBoolean(Object value) {
-        if (value instanceof Boolean) return (Boolean) value;
-        if (value instanceof Number) return ((Number) value).doubleValue() != 0;
-        if (value instanceof String) return !((String) value).isEmpty();
-        if (value == null) return false;
-        return true;
+    /**
+     * Çağrı derinliğine ait havuz çerçevesini hazırlar ve argümanları
+     * {@code argStack[base ..]} yuvalarından ilk yuvalara taşır. Çerçeveler
+     * çağrıdan dışarı sızmaz (iç fonksiyonlar dıştakinin yerellerini
+     * göremez), bu yüzden aynı derinlikteki sonraki çağrı aynı diziyi kullanabilir.
+     */
+    private Object[] enterFrame(int depth, Function function, int base) {
+        Object[] callFrame;
+        if (depth < FRAME_POOL_DEPTH) {
+            callFrame = framePool[depth];
+            if (callFrame == null || callFrame.length < function.frameSize) {
+                callFrame = new Object[function.frameSize];
+                framePool[depth] = callFrame;
+            }
+        } else {
+            callFrame = new Object[function.frameSize];
+        }
+        int count = function.params.size();
+        System.arraycopy(argStack, base, callFrame, 0, count);
+        Arrays.fill(argStack, base, base + count, null);
+        return callFrame;
     }
 
-    private double toNumber(Object obj) {
-        if (obj instanceof Integer i) return i;
-        if (obj instanceof Double d) return d;
-        throw new RuntimeException("Sayısal olmayan değer: " + obj);
-    }
+    /**
+     * Fonksiyon gövdesini argümanlarla yeni bir çerçevede çalıştırır. Kuyruk
+     * çağrıları aynı çerçevede sürer ve çağıranın yerini aldığından çağrı
+     * derinliğini artırmaz; derinlik sınırı yalnızca iç içe çağrıları sayar.
+     */
+    private Object invoke(String name, int line, Function function, int base) {
+        if (callDepth >= maxCallDepth) {
+            throw new CallDepthExceededException(line, "Çağrı derinliği sınırı aşıldı (" + maxCallDepth + ")");
+        }
+        Object[] callFrame = enterFrame(callDepth, function, base);
 
-    private Object evaluateBlock(ASTNode block) {
-        scopes.push(new HashMap<>());
-        Object last = null;
-        for (ASTNode stmt : block.children) {
-            last = evaluate(stmt);
+        // Fonksiyon gövdesini çalıştır
+        if (metrics != null) metrics.calls++;
+        Object[] callerFrame = frame;
+        Function caller = currentFunction;
+        frame = callFrame;
+        currentFunction = function;
+        callDepth++;
+        int pendingBase = pendingCount;
+        if (profiler != null) profiler.enter(name);
+        try {
+            while (true) {
+                Object result = null;
+                if (exec(function.body) == RETURN) {
+                    result = returnValue;
+                    returnValue = null;
+                }
+                if (result != TAIL_CALL) {
+                    // Bu çerçevede önbelleğe alınan kuyruk çağrılarının sonucu da budur
+                    while (pendingCount > pendingBase) {
+                        memo.put(pendingKeys[--pendingCount], result);
+                        pendingKeys[pendingCount] = null;
+                    }
+                    return result;
+                }
+
+                // Kuyruk çağrısı: aynı Java çerçevesinde hedefin gövdesine geç;
+                // argümanlar yığının tepesindedir
+                Arrays.fill(frame, 0, function.frameSize, null);
+                function = tailFunction;
+                int tailBase = argSp - function.params.size();
+                frame = enterFrame(callDepth - 1, function, tailBase);
+                argSp = tailBase;
+                currentFunction = function;
+                if (metrics != null) metrics.calls++;
+                if (profiler != null) {
+                    profiler.exit();
+                    profiler.enter(tailName);
+                }
+                tailFunction = null;
+            }
+        } catch (StackOverflowError e) {
+            // Hata nesnesi yığın dolu olduğu için dış çerçevelerden birinde
+            // oluşturulabilir; taşmanın olduğu en derin nokta kaydedilir
+            overflowDepth = Math.max(overflowDepth, callDepth);
+            throw new CallDepthExceededException(line, "Java yığını tükendi (çağrı derinliği " + overflowDepth + ")");
+        } finally {
+            // Hatayla biten zincirin sonucu yoktur; bekleyen anahtarlar atılır
+            Arrays.fill(pendingKeys, pendingBase, pendingCount, null);
+            pendingCount = pendingBase;
+            // Havuza dönen çerçeve eski değerleri tutmasın
+            Arrays.fill(frame, 0, function.frameSize, null);
+            frame = callerFrame;
+            currentFunction = caller;
+            callDepth--;
+            if (profiler != null) profiler.exit();
         }
-        scopes.pop();
-        return last;
     }
 
-    private void error(String message) {
-        throw new RuntimeException("ÇALIŞMA ZAMANI HATASI: " + message);
+    private Object evaluateBinaryOp(ASTNode.BinOp node) {
+        Object left = evaluate(node.left);
+        Object right = evaluate(node.right);
+        // Tip denetleyicisi işlenen tiplerini kanıtladıysa tip sınamalarını atla
+        DataType type = node.operandType;
+        Object result;
+        if (type == DataType.TAMSAYI) {
+            result = Operations.longBinary(node.op, (Long) left, (Long) right);
+        } else if (type == DataType.ONDALIK) {
+            result = Operations.doubleBinary(node.op, ((Number) left).doubleValue(), ((Number) right).doubleValue());
+        } else if (type == DataType.MANTIKSAL) {
+            return Operations.booleanBinary(node.op, (Boolean) left, (Boolean) right);
+        } else {
+            result = specialized(node, left, right);
+            if (limitStrings && result instanceof CharSequence s) guard.allocateConcat(left, s, node.line);
+        }
+        if (metrics != null) metrics.produced(result);
+        return result;
     }
 
-    private void checkType(Object value, String expectedType) {
-        String actualType = getType(value);
-        if (!actualType.equals(expectedType)) {
-            error(String.format("Tip uyuşmazlığı: '%s' tipinde değer bekleniyordu, '%s' tipinde değer bulundu", 
-                expectedType, actualType));
+    /**
+     * Tipi kanıtlanamamış işlem: düğüm daha önce gördüğü tiplere özelleşmişse
+     * yalnızca o tipleri sınar. Sınama tutmazsa düğüm yeniden yazılır; ilk
+     * çalışmada gözlenen tiplere, sonrasında genel biçime geçer.
+     */
+    private Object specialized(ASTNode.BinOp node, Object left, Object right) {
+        int site = node.site;
+        if (site >= specializations.length) growSpecializations(site);
+        // Sık görülenden seyreğe; enum switch'i yerine referans karşılaştırması
+        ASTNode.Specialization specialization = specializations[site];
+        if (specialization == ASTNode.Specialization.INT) {
+            if (left instanceof Long l && right instanceof Long r) return Operations.longBinary(node.op, l, r);
+        } else if (specialization == ASTNode.Specialization.DOUBLE) {
+            if (Operations.isMixedNumber(left, right)) {
+                return Operations.doubleBinary(node.op, ((Number) left).doubleValue(), ((Number) right).doubleValue());
+            }
+        } else if (specialization == ASTNode.Specialization.TEXT) {
+            if (Operations.isText(left) || Operations.isText(right)) return ConcatString.concat(left, right);
+        } else if (specialization == ASTNode.Specialization.BOOLEAN) {
+            if (left instanceof Boolean l && right instanceof Boolean r) return Operations.booleanBinary(node.op, l, r);
+        } else if (specialization == ASTNode.Specialization.GENERIC) {
+            return Operations.binary(node.op, left, right);
         }
+        specializations[site] = specialization == ASTNode.Specialization.UNINITIALIZED
+                ? Operations.specialize(node.op, left, right)
+                : ASTNode.Specialization.GENERIC;
+        rewrites[site]++;
+        return Operations.binary(node.op, left, right);
     }
 
-    private String getType(Object value) {
-        if (value instanceof Integer) return "tamsayı";
-        if (value instanceof Double) return "ondalıklı";
-        if (value instanceof String) return "metin";
-        if (value instanceof Boolean) return "mantıksal";
-        return "bilinmeyen";
+    /** Akış kipinde çözümleyici yeni işlemleri numaraladıkça diziler büyür. */
+    private void growSpecializations(int site) {
+        int length = specializations.length;
+        int size = Math.max(site + 1, 2 * length);
+        specializations = Arrays.copyOf(specializations, size);
+        Arrays.fill(specializations, length, size, ASTNode.Specialization.UNINITIALIZED);
+        rewrites = Arrays.copyOf(rewrites, size);
+    }
+
+    private Object lookup(ASTNode.Var node) {
+        if (node.depth == ASTNode.LOCAL) return frame[node.slot];
+        Object value = globals[node.slot];
+        if (value == UNDEFINED) throw new RuntimeException("Tanımsız değişken: " + node.name);
+        return value;
+    }
+
+    private void error(String message) {
+        throw new RuntimeException("ÇALIŞMA ZAMANI HATASI: " + message);
     }
 
     private void checkDivisionByZero(Object divisor) {
@@ -267,19 +694,6 @@ public class Interpreter {
         }
     }
 
-    private void checkVariableExists(String name) {
-        boolean exists = false;
-        for (Map<String, Object> scope : scopes) {
-            if (scope.containsKey(name)) {
-                exists = true;
-                break;
-            }
-        }
-        if (!exists) {
-            error(String.format("'%s' değişkeni tanımlanmamış", name));
-        }
-    }
-
     private void checkFunctionExists(String name) {
         if (!functions.containsKey(name)) {
             error(String.format("'%s' fonksiyonu tanımlanmamış", name));
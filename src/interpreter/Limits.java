@@ -0,0 +1,63 @@
+// === src/interpreter/Limits.java ===
+package interpreter;
+
+/**
+ * Tek bir çalıştırmanın kaynak sınırları. Değişmezdir; {@code with...}
+ * yöntemleri yeni bir örnek döndürür. Varsayılan {@link #NONE} hiçbir
+ * sınır koymaz.
+ *
+ * <ul>
+ *   <li>Adım: ağaç yorumlayıcısında çalıştırılan deyim, VM'de komut sayısı.</li>
+ *   <li>Çağrı derinliği: iç içe GökDil fonksiyon çağrısı sayısı. Ağaç
+ *       yorumlayıcısında {@code dön f(...)} kuyruk çağrısı çağıranın yerini
+ *       aldığından sayılmaz; VM kuyruk çağrılarını ayrıca ele almaz, sayar.</li>
+ *   <li>Süre: milisaniye; birkaç bin adımda bir denetlenir.</li>
+ *   <li>Yazı belleği: birleştirme ve girdiyle oluşturulan yazıların
+ *       toplam boyutu, karakter başına iki bayt sayılır.</li>
+ * </ul>
+ */
+public final class Limits {
+    public static final long UNLIMITED = Long.MAX_VALUE;
+    public static final Limits NONE = new Limits(UNLIMITED, Integer.MAX_VALUE, UNLIMITED, UNLIMITED);
+
+    public final long maxSteps;
+    public final int maxCallDepth;
+    public final long timeoutMillis;
+    public final long maxStringBytes;
+
+    private Limits(long maxSteps, int maxCallDepth, long timeoutMillis, long maxStringBytes) {
+        this.maxSteps = maxSteps;
+        this.maxCallDepth = maxCallDepth;
+        this.timeoutMillis = timeoutMillis;
+        this.maxStringBytes = maxStringBytes;
+    }
+
+    /** Hiçbir sınır konmamışsa {@code true}. */
+    public boolean isUnlimited() {
+        return maxSteps == UNLIMITED && maxCallDepth == Integer.MAX_VALUE
+                && timeoutMillis == UNLIMITED && maxStringBytes == UNLIMITED;
+    }
+
+    public Limits withMaxSteps(long maxSteps) {
+        return new Limits(positive(maxSteps), maxCallDepth, timeoutMillis, maxStringBytes);
+    }
+
+    public Limits withMaxCallDepth(int maxCallDepth) {
+        return new Limits(maxSteps, (int) positive(maxCallDepth), timeoutMillis, maxStringBytes);
+    }
+
+    public Limits withTimeoutMillis(long timeoutMillis) {
+        return new Limits(maxSteps, maxCallDepth, positive(timeoutMillis), maxStringBytes);
+    }
+
+    public Limits withMaxStringBytes(long maxStringBytes) {
+        return new Limits(maxSteps, maxCallDepth, timeoutMillis, positive(maxStringBytes));
+    }
+
+    private static long positive(long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Sınır pozitif olmalı: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,110 @@
+// === src/interpreter/MemoCache.java ===
+package interpreter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Saf fonksiyon sonuçlarının sınırlı önbelleği. Anahtar, fonksiyon tanımı
+ * ve argüman değerleridir; dolunca en uzun süredir kullanılmayan kayıt
+ * (LRU) çıkarılır. Hata veren çağrılar kaydedilmez.
+ *
+ * <p>Bir yorumlayıcıya aittir ve iş parçacığı güvenli değildir.
+ */
+public final class MemoCache {
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    /** {@link #get} sonucunda kaydın bulunmadığını belirtir. */
+    static final Object MISSING = new Object();
+    // Değer döndürmeyen fonksiyonların sonucu
+    private static final Object NULL = new Object();
+
+    /** Fonksiyon tanımı ve argümanlardan oluşan anahtar. */
+    private static final class Key {
+        private final Object function;
+        private final Object[] args;
+        private final int hash;
+
+        Key(Object function, Object[] args) {
+            this.function = function;
+            this.args = args;
+            this.hash = 31 * System.identityHashCode(function) + Arrays.hashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && key.function == function && Arrays.equals(key.args, args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Object> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public MemoCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Geçersiz önbellek boyutu: " + capacity);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                if (size() <= MemoCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Çağrının anahtarı. Birleştirilmiş yazılar içerikleriyle karşılaştırılsın
+     * diye düzleştirilir.
+     */
+    static Object key(Object function, Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            args[i] = Operations.flatten(args[i]);
+        }
+        return new Key(function, args);
+    }
+
+    /** Kayıtlı sonuç; yoksa {@link #MISSING}. */
+    Object get(Object key) {
+        Object value = entries.get(key);
+        if (value == null) {
+            misses++;
+            return MISSING;
+        }
+        hits++;
+        return value == NULL ? null : value;
+    }
+
+    void put(Object key, Object value) {
+        entries.put((Key) key, value == null ? NULL : value);
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
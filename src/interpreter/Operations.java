@@ -0,0 +1,305 @@
+// === src/interpreter/Operations.java ===
+package interpreter;
+
+import java.util.Objects;
+import parser.ASTNode;
+import parser.DataType;
+import parser.Operator;
+
+/**
+ * GökDil işleçlerinin anlamı. Ağaç yorumlayıcısı ve bayt kodu sanal makinesi
+ * aynı kuralları paylaşsın diye tek yerde tutulur.
+ *
+ * <p>Sayı kulesi: {@code tamsayı} değerleri {@link Long}, {@code ondalık}
+ * değerleri {@link Double} olarak taşınır. İki tamsayı arasındaki işlemler
+ * tamsayı kalır (bölme kesirli kısmı atar, taşma hata verir); işlenenlerden
+ * biri ondalıksa sonuç ondalıktır.
+ */
+public final class Operations {
+    private Operations() {}
+
+    // Küçük tamsayılar için önbellek; üst sınır -Dgokdil.intCache.high ile ayarlanır
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = Math.max(127, Integer.getInteger("gokdil.intCache.high", 16383));
+    private static final Long[] CACHE = new Long[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = (long) (i + CACHE_LOW);
+        }
+    }
+
+    /** Tamsayıyı kutular; önbellek aralığındaki değerler için nesne oluşturmaz. */
+    public static Long box(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return value;
+    }
+
+    /** {@link #box} bu değer için önbellekteki nesneyi mi döndürür? */
+    public static boolean isCached(long value) {
+        return value >= CACHE_LOW && value <= CACHE_HIGH;
+    }
+
+    public static Object binary(Operator op, Object left, Object right) {
+        return switch (op) {
+            case ADD -> add(left, right);
+            case SUB -> subtract(left, right);
+            case MUL -> multiply(left, right);
+            case DIV -> divide(left, right);
+            case MOD -> modulo(left, right);
+            case EQ -> equal(left, right);
+            case NE -> !equal(left, right);
+            case GT -> greater(left, right);
+            case LT -> less(left, right);
+            case GE -> greaterOrEqual(left, right);
+            case LE -> lessOrEqual(left, right);
+            case AND -> toBoolean(left) && toBoolean(right);
+            case OR -> toBoolean(left) || toBoolean(right);
+        };
+    }
+
+    /** İki işlenenin de tamsayı olduğu tip denetleyicisince kanıtlanmış işlemler. */
+    public static Object longBinary(Operator op, long left, long right) {
+        return switch (op) {
+            case ADD -> box(addExact(left, right));
+            case SUB -> box(subtractExact(left, right));
+            case MUL -> box(multiplyExact(left, right));
+            case DIV -> box(longDivide(left, right));
+            case MOD -> box(longModulo(left, right));
+            case EQ -> left == right;
+            case NE -> left != right;
+            case GT -> left > right;
+            case LT -> left < right;
+            case GE -> left >= right;
+            case LE -> left <= right;
+            case AND, OR -> throw new IllegalArgumentException("Tamsayı işlemi değil: " + op);
+        };
+    }
+
+    /** İşlenenlerden en az biri ondalık, diğeri tamsayı ya da ondalık. */
+    public static Object doubleBinary(Operator op, double left, double right) {
+        return switch (op) {
+            case ADD -> left + right;
+            case SUB -> left - right;
+            case MUL -> left * right;
+            case DIV -> {
+                if (right == 0) throw divisionByZero();
+                yield left / right;
+            }
+            case MOD -> {
+                if (right == 0) throw divisionByZero();
+                yield left % right;
+            }
+            case EQ -> left == right;
+            case NE -> left != right;
+            case GT -> left > right;
+            case LT -> left < right;
+            case GE -> left >= right;
+            case LE -> left <= right;
+            case AND, OR -> throw new IllegalArgumentException("Ondalık işlemi değil: " + op);
+        };
+    }
+
+    public static Object booleanBinary(Operator op, boolean left, boolean right) {
+        return switch (op) {
+            case AND -> left && right;
+            case OR -> left || right;
+            case EQ -> left == right;
+            case NE -> left != right;
+            default -> throw new IllegalArgumentException("Mantıksal işlem değil: " + op);
+        };
+    }
+
+    /**
+     * İlk kez görülen işlenen tiplerine uyan özel biçim. Özel biçimler
+     * {@link #binary} ile aynı sonucu verir; uymayan işlemler {@code GENERIC}'tir.
+     */
+    public static ASTNode.Specialization specialize(Operator op, Object left, Object right) {
+        boolean logical = op == Operator.AND || op == Operator.OR;
+        if (left instanceof Long && right instanceof Long) {
+            return logical ? ASTNode.Specialization.GENERIC : ASTNode.Specialization.INT;
+        }
+        if (isMixedNumber(left, right)) {
+            return logical ? ASTNode.Specialization.GENERIC : ASTNode.Specialization.DOUBLE;
+        }
+        if (op == Operator.ADD && (isText(left) || isText(right))) return ASTNode.Specialization.TEXT;
+        if (left instanceof Boolean && right instanceof Boolean
+                && (logical || op == Operator.EQ || op == Operator.NE)) {
+            return ASTNode.Specialization.BOOLEAN;
+        }
+        return ASTNode.Specialization.GENERIC;
+    }
+
+    /** İki işlenen de sayı ve en az biri ondalık. */
+    static boolean isMixedNumber(Object left, Object right) {
+        return left instanceof Double && (right instanceof Double || right instanceof Long)
+                || right instanceof Double && left instanceof Long;
+    }
+
+    public static Object add(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return box(addExact(l, r));
+        if (left instanceof Double l && right instanceof Double r) return l + r;
+        if (isText(left) || isText(right)) {
+            return ConcatString.concat(left, right);
+        }
+        return toNumber(left) + toNumber(right);
+    }
+
+    public static Object subtract(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return box(subtractExact(l, r));
+        return toNumber(left) - toNumber(right);
+    }
+
+    public static Object multiply(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return box(multiplyExact(l, r));
+        return toNumber(left) * toNumber(right);
+    }
+
+    public static Object divide(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return box(longDivide(l, r));
+        double r = toNumber(right);
+        if (r == 0) throw divisionByZero();
+        return toNumber(left) / r;
+    }
+
+    public static Object modulo(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) {
+            if (r == 0) throw divisionByZero();
+            return box(l % r);
+        }
+        double r = toNumber(right);
+        if (r == 0) throw divisionByZero();
+        return toNumber(left) % r;
+    }
+
+    /** Sayılar tiplerinden bağımsız olarak değerleriyle karşılaştırılır: 1 == 1.0. */
+    public static boolean equal(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return l.longValue() == r.longValue();
+        if (left instanceof Number && right instanceof Number) return toNumber(left) == toNumber(right);
+        return Objects.equals(flatten(left), flatten(right));
+    }
+
+    public static boolean greater(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return l > r;
+        return toNumber(left) > toNumber(right);
+    }
+
+    public static boolean less(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return l < r;
+        return toNumber(left) < toNumber(right);
+    }
+
+    public static boolean greaterOrEqual(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return l >= r;
+        return toNumber(left) >= toNumber(right);
+    }
+
+    public static boolean lessOrEqual(Object left, Object right) {
+        if (left instanceof Long l && right instanceof Long r) return l <= r;
+        return toNumber(left) <= toNumber(right);
+    }
+
+    public static boolean toBoolean(Object value) {
+        if (value instanceof Boolean b) return b;
+        if (value instanceof Long l) return l != 0;
+        if (value instanceof Double d) return d != 0;
+        if (value instanceof CharSequence s) return s.length() > 0;
+        return value != null;
+    }
+
+    /** {@code yazı} değeri: {@link String} ya da birleştirmeyle büyüyen {@link ConcatString}. */
+    public static boolean isText(Object value) {
+        return value instanceof String || value instanceof ConcatString;
+    }
+
+    /** Birleştirilmiş yazıları düz {@link String}'e çevirir; diğer değerler olduğu gibi döner. */
+    public static Object flatten(Object value) {
+        return value instanceof ConcatString s ? s.toString() : value;
+    }
+
+    public static double toNumber(Object obj) {
+        if (obj instanceof Long l) return l;
+        if (obj instanceof Double d) return d;
+        throw new RuntimeException("Sayısal olmayan değer: " + obj);
+    }
+
+    /**
+     * Tipi derleme zamanında bilinemeyen bir değeri bildirilen tipe uyarlar:
+     * tamsayı, ondalık değişkene genişletilerek atanır; diğer uyuşmazlıklar hatadır.
+     */
+    public static Object coerce(Object value, DataType type, int line) {
+        Object result = conform(value, type);
+        if (result != null) return result;
+        throw new RuntimeException(String.format(
+                "Satır %d: Tip uyuşmazlığı: '%s' tipinde değer bekleniyordu, '%s' tipinde değer bulundu",
+                line, type, typeName(value)));
+    }
+
+    /** {@link #coerce} gibi uyarlar; değer tipe uymuyorsa {@code null} döner. */
+    public static Object conform(Object value, DataType type) {
+        if (type == DataType.ONDALIK && value instanceof Long l) return l.doubleValue();
+        boolean matches = switch (type) {
+            case TAMSAYI -> value instanceof Long;
+            case ONDALIK -> value instanceof Double;
+            case YAZI -> isText(value);
+            case MANTIKSAL -> value instanceof Boolean;
+        };
+        return matches ? value : null;
+    }
+
+    public static String typeName(Object value) {
+        if (value instanceof Long) return DataType.TAMSAYI.keyword;
+        if (value instanceof Double) return DataType.ONDALIK.keyword;
+        if (isText(value)) return DataType.YAZI.keyword;
+        if (value instanceof Boolean) return DataType.MANTIKSAL.keyword;
+        return "bilinmeyen";
+    }
+
+    // Tamsayı işlemleri; derlenmiş kod (jit) da aynı hataları versin diye açıktır
+
+    public static long addExact(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
+    }
+
+    public static long subtractExact(long left, long right) {
+        try {
+            return Math.subtractExact(left, right);
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
+    }
+
+    public static long multiplyExact(long left, long right) {
+        try {
+            return Math.multiplyExact(left, right);
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
+    }
+
+    public static long longDivide(long left, long right) {
+        if (right == 0) throw divisionByZero();
+        // En küçük değerin -1'e bölümü sığmaz; Java sessizce kendisine döndürür
+        if (left == Long.MIN_VALUE && right == -1) throw overflow();
+        return left / right;
+    }
+
+    public static long longModulo(long left, long right) {
+        if (right == 0) throw divisionByZero();
+        return left % right;
+    }
+
+    private static ArithmeticException divisionByZero() {
+        return new ArithmeticException("Sıfıra bölme hatası!");
+    }
+
+    private static ArithmeticException overflow() {
+        return new ArithmeticException("Tamsayı taşması!");
+    }
+}
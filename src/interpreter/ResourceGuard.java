@@ -0,0 +1,90 @@
+// === src/interpreter/ResourceGuard.java ===
+package interpreter;
+
+import error.DeadlineExceededException;
+import error.MemoryLimitExceededException;
+import error.StepLimitExceededException;
+
+/**
+ * {@link Limits} sınırlarını bir çalıştırma boyunca izler. Motorlar her
+ * adımda yalnızca kendi sayaçlarını azaltır:
+ *
+ * <pre>
+ * if (--countdown &lt; 0) countdown = guard.checkpoint(line);
+ * </pre>
+ *
+ * Sayaç bittiğinde adım ve süre sınırları burada denetlenir; sınırlar
+ * genişse bu birkaç bin adımda bir olur ve maliyeti fark edilmez.
+ */
+public final class ResourceGuard {
+    private static final int CHECK_INTERVAL = 4096;
+
+    private final Limits limits;
+    private final boolean timed;
+    private final long deadline;
+    private long steps;
+    private int window;
+    private long stringBytes;
+
+    public ResourceGuard(Limits limits) {
+        this.limits = limits;
+        this.timed = limits.timeoutMillis != Limits.UNLIMITED;
+        this.deadline = timed ? System.nanoTime() + limits.timeoutMillis * 1_000_000L : 0;
+    }
+
+    /** Sayacın ilk değeri. */
+    public int start() {
+        window = nextWindow();
+        return window - 1;
+    }
+
+    /**
+     * Sayaç bittiğinde çağrılır; sınırları denetler ve sayacın yeni değerini
+     * döndürür. {@code line} o an çalışan kaynak satırıdır.
+     */
+    public int checkpoint(int line) {
+        steps += window;
+        if (steps > limits.maxSteps) {
+            throw new StepLimitExceededException(line, "Adım sınırı aşıldı (" + limits.maxSteps + ")");
+        }
+        if (timed && System.nanoTime() - deadline > 0) {
+            throw new DeadlineExceededException(line, "Süre sınırı aşıldı (" + limits.timeoutMillis + " ms)");
+        }
+        window = nextWindow();
+        return window - 1;
+    }
+
+    /** Şimdiye kadar atılan adım sayısı; {@code countdown} sayacın o anki değeridir. */
+    public long steps(int countdown) {
+        return steps + (window - 1 - countdown);
+    }
+
+    private int nextWindow() {
+        return (int) Math.max(1, Math.min(CHECK_INTERVAL, limits.maxSteps - steps));
+    }
+
+    /** Yazı belleği sınırlıysa {@link #allocateString} çağrılmalıdır. */
+    public boolean limitsStrings() {
+        return limits.maxStringBytes != Limits.UNLIMITED;
+    }
+
+    public void allocateString(CharSequence value, int line) {
+        charge(value.length(), line);
+    }
+
+    /**
+     * Birleştirme sonucunu sayar. Yerinde uzatılan bir arabellekte önceki
+     * karakterler zaten sayılmıştır; yalnızca eklenenler sayılır, yoksa
+     * döngüyle büyüyen bir yazının maliyeti karesel olurdu.
+     */
+    public void allocateConcat(Object left, CharSequence result, int line) {
+        charge(ConcatString.allocated(left, result), line);
+    }
+
+    private void charge(int chars, int line) {
+        stringBytes += 2L * chars;
+        if (stringBytes > limits.maxStringBytes) {
+            throw new MemoryLimitExceededException(line, "Yazı belleği sınırı aşıldı (" + limits.maxStringBytes + " bayt)");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+// === src/interpreter/RunMetrics.java ===
+package interpreter;
+
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
+
+/**
+ * Tek bir yorumlayıcının ölçüm tamponu. Sıcak yoldaki sayımlar düz alanlara
+ * yapılır ve {@link #flush} ile paylaşılan sayaçlara aktarılır; eşzamanlı
+ * çalıştırmalar her deyimde aynı sayaca dokunmaz.
+ */
+final class RunMetrics {
+    final Histogram executeTime;
+    final Histogram inputWait;
+    private final Counter statementCounter;
+    private final Counter callCounter;
+    private final Counter scopeCounter;
+    private final Counter boxedCounter;
+    private final Counter stringCounter;
+    private final Counter memoHitCounter;
+    private final Counter memoMissCounter;
+
+    long calls;
+    long scopes;
+    long boxed;
+    long strings;
+    long memoHits;
+    long memoMisses;
+    private long flushedSteps;
+
+    RunMetrics(MetricsRegistry registry) {
+        executeTime = registry.executeTime();
+        inputWait = registry.inputWait();
+        statementCounter = registry.statements();
+        callCounter = registry.functionCalls();
+        scopeCounter = registry.scopePushes();
+        boxedCounter = registry.boxedNumbers();
+        stringCounter = registry.strings();
+        memoHitCounter = registry.memoHits();
+        memoMissCounter = registry.memoMisses();
+    }
+
+    /** İşlemin ürettiği değer yeni bir nesneyse sayar. */
+    void produced(Object value) {
+        if (value instanceof Long l) {
+            if (!Operations.isCached(l)) boxed++;
+        } else if (value instanceof Double) {
+            boxed++;
+        } else if (value instanceof CharSequence) {
+            strings++;
+        }
+    }
+
+    /** Biriken sayıları aktarır; {@code steps} şimdiye kadar çalışan toplam deyim sayısıdır. */
+    void flush(long steps) {
+        statementCounter.add(steps - flushedSteps);
+        flushedSteps = steps;
+        callCounter.add(calls);
+        scopeCounter.add(scopes);
+        boxedCounter.add(boxed);
+        stringCounter.add(strings);
+        memoHitCounter.add(memoHits);
+        memoMissCounter.add(memoMisses);
+        calls = scopes = boxed = strings = memoHits = memoMisses = 0;
+    }
+}
@@ -0,0 +1,371 @@
+// === src/jit/ClassFile.java ===
+package jit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Dış bağımlılığı olmayan, en küçük sınıf dosyası üreticisi. Yalnızca
+ * {@link JitCompiler}'in kullandığı sabit havuzu girdilerini ve komutları
+ * bilir.
+ *
+ * <p>Sınıf dosyası sürümü 49'dur (Java 5): bu sürümde {@code StackMapTable}
+ * istenmez, doğrulayıcı yerel değişken ve yığın tiplerini kendisi çıkarır.
+ * Böylece dallanmalar için çerçeve bilgisi üretmek gerekmez.
+ */
+final class ClassFile {
+    private static final int VERSION = 49;
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    // Kullanılan komutlar
+    static final int ICONST_0 = 3;
+    static final int ICONST_1 = 4;
+    static final int LCONST_0 = 9;
+    static final int LCONST_1 = 10;
+    static final int BIPUSH = 16;
+    static final int SIPUSH = 17;
+    static final int LDC = 18;
+    static final int LDC_W = 19;
+    static final int LDC2_W = 20;
+    static final int LLOAD = 22;
+    static final int ALOAD_0 = 42;
+    static final int ALOAD_1 = 43;
+    static final int ALOAD_2 = 44;
+    static final int LALOAD = 47;
+    static final int LSTORE = 55;
+    static final int LASTORE = 80;
+    static final int POP2 = 88;
+    static final int DUP = 89;
+    static final int IAND = 126;
+    static final int IOR = 128;
+    static final int LCMP = 148;
+    static final int IFEQ = 153;
+    static final int IFNE = 154;
+    static final int IFLT = 155;
+    static final int IFGE = 156;
+    static final int IFGT = 157;
+    static final int IFLE = 158;
+    static final int GOTO = 167;
+    static final int LRETURN = 173;
+    static final int RETURN = 177;
+    static final int GETSTATIC = 178;
+    static final int INVOKESPECIAL = 183;
+    static final int INVOKESTATIC = 184;
+    static final int INVOKEINTERFACE = 185;
+    static final int NEWARRAY = 188;
+    static final int ATHROW = 191;
+    static final int WIDE = 196;
+    static final int T_LONG = 11;
+
+    /** Dallanma hedefi. İleri atlamalar konum bilinince yamanır. */
+    static final class Label {
+        private int position = -1;
+        private int depth = -1;
+        private final List<Integer> fixups = new ArrayList<>();
+    }
+
+    /** Bir yöntemin gövdesi; en büyük yığın derinliği komutlarla birlikte izlenir. */
+    final class Code {
+        private static final int UNREACHABLE = -1;
+
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final int maxLocals;
+        private byte[] bytes = new byte[64];
+        private int length;
+        private int depth;
+        private int maxDepth;
+
+        private Code(int access, String name, String descriptor, int maxLocals) {
+            this.access = access;
+            this.name = utf8(name);
+            this.descriptor = utf8(descriptor);
+            this.maxLocals = maxLocals;
+        }
+
+        /** {@code delta}, komutun yığın derinliğinde yaptığı değişikliktir. */
+        void op(int opcode, int delta) {
+            u1(opcode);
+            adjust(delta);
+            if (opcode == GOTO || opcode == ATHROW || opcode == LRETURN || opcode == RETURN) depth = UNREACHABLE;
+        }
+
+        void op1(int opcode, int operand, int delta) {
+            u1(opcode);
+            u1(operand);
+            adjust(delta);
+        }
+
+        void op2(int opcode, int operand, int delta) {
+            u1(opcode);
+            u2(operand);
+            adjust(delta);
+        }
+
+        void invokeInterface(int method, int argSlots, int delta) {
+            u1(INVOKEINTERFACE);
+            u2(method);
+            u1(argSlots + 1);
+            u1(0);
+            adjust(delta);
+        }
+
+        void loadLong(int index) {
+            local(LLOAD, index);
+            adjust(2);
+        }
+
+        void storeLong(int index) {
+            local(LSTORE, index);
+            adjust(-2);
+        }
+
+        private void local(int opcode, int index) {
+            if (index <= 0xFF) {
+                u1(opcode);
+                u1(index);
+            } else {
+                u1(WIDE);
+                u1(opcode);
+                u2(index);
+            }
+        }
+
+        void pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                u1(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                u1(BIPUSH);
+                u1(value);
+            } else {
+                u1(SIPUSH);
+                u2(value);
+            }
+            adjust(1);
+        }
+
+        void pushLong(long value) {
+            if (value == 0 || value == 1) {
+                u1(LCONST_0 + (int) value);
+            } else {
+                u1(LDC2_W);
+                u2(longConstant(value));
+            }
+            adjust(2);
+        }
+
+        void pushString(String value) {
+            int index = string(value);
+            if (index <= 0xFF) {
+                op1(LDC, index, 1);
+            } else {
+                op2(LDC_W, index, 1);
+            }
+        }
+
+        void jump(int opcode, Label target, int delta) {
+            int at = length;
+            u1(opcode);
+            u2(0);
+            adjust(delta);
+            if (target.depth < 0) target.depth = depth;
+            if (target.position >= 0) {
+                patch(at, target.position);
+            } else {
+                target.fixups.add(at);
+            }
+            if (opcode == GOTO) depth = UNREACHABLE;
+        }
+
+        void bind(Label label) {
+            label.position = length;
+            if (depth == UNREACHABLE) depth = label.depth;
+            if (label.depth < 0) label.depth = depth;
+            for (int at : label.fixups) {
+                patch(at, label.position);
+            }
+            label.fixups.clear();
+        }
+
+        private void patch(int at, int target) {
+            int offset = target - at;
+            if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                throw new UnsupportedOperationException("Yöntem gövdesi çok büyük");
+            }
+            bytes[at + 1] = (byte) (offset >> 8);
+            bytes[at + 2] = (byte) offset;
+        }
+
+        private void adjust(int delta) {
+            if (depth == UNREACHABLE) return;
+            depth += delta;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        private void u1(int value) {
+            if (length == bytes.length) bytes = Arrays.copyOf(bytes, length * 2);
+            bytes[length++] = (byte) value;
+        }
+
+        private void u2(int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            if (length > 0xFFFF) throw new UnsupportedOperationException("Yöntem gövdesi çok büyük");
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeAttribute);
+            out.writeInt(12 + length);
+            out.writeShort(maxDepth);
+            out.writeShort(maxLocals);
+            out.writeInt(length);
+            out.write(bytes, 0, length);
+            out.writeShort(0); // istisna tablosu
+            out.writeShort(0); // öznitelikler
+        }
+    }
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> entries = new HashMap<>();
+    private int poolCount = 1;
+
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final int codeAttribute;
+    private final List<Code> methods = new ArrayList<>();
+
+    ClassFile(String name, String superName, String... interfaceNames) {
+        thisClass = classRef(name);
+        superClass = classRef(superName);
+        interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = classRef(interfaceNames[i]);
+        }
+        codeAttribute = utf8("Code");
+    }
+
+    Code method(int access, String name, String descriptor, int maxLocals) {
+        Code code = new Code(access, name, descriptor, maxLocals);
+        methods.add(code);
+        return code;
+    }
+
+    int utf8(String value) {
+        return entry("U" + value, 1, () -> {
+            pool.writeByte(1);
+            pool.writeUTF(value);
+        });
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return entry("C" + internalName, 1, () -> {
+            pool.writeByte(7);
+            pool.writeShort(name);
+        });
+    }
+
+    int string(String value) {
+        int utf8 = utf8(value);
+        return entry("S" + value, 1, () -> {
+            pool.writeByte(8);
+            pool.writeShort(utf8);
+        });
+    }
+
+    int longConstant(long value) {
+        // Uzun sabitler havuzda iki yuva kaplar
+        return entry("J" + value, 2, () -> {
+            pool.writeByte(5);
+            pool.writeLong(value);
+        });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return memberRef(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(11, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int nameAndType = entry("N" + name + ":" + descriptor, 1, () -> {
+            pool.writeByte(12);
+            pool.writeShort(nameIndex);
+            pool.writeShort(descriptorIndex);
+        });
+        return entry(tag + owner + "." + name + ":" + descriptor, 1, () -> {
+            pool.writeByte(tag);
+            pool.writeShort(ownerIndex);
+            pool.writeShort(nameAndType);
+        });
+    }
+
+    private interface PoolWriter {
+        void write() throws IOException;
+    }
+
+    private int entry(String key, int slots, PoolWriter writer) {
+        Integer index = entries.get(key);
+        if (index != null) return index;
+        if (poolCount + slots > 0xFFFF) throw new UnsupportedOperationException("Sabit havuzu dolu");
+        try {
+            writer.write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        index = poolCount;
+        poolCount += slots;
+        entries.put(key, index);
+        return index;
+    }
+
+    byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            out.writeShort(poolCount);
+            poolBytes.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int index : interfaces) {
+                out.writeShort(index);
+            }
+            out.writeShort(0); // alanlar
+            out.writeShort(methods.size());
+            for (Code method : methods) {
+                method.write(out);
+            }
+            out.writeShort(0); // öznitelikler
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,11 @@
+// === src/jit/CompiledFunction.java ===
+package jit;
+
+/**
+ * JVM bayt koduna derlenmiş bir GökDil fonksiyonu. Bütün parametreler ve
+ * sonuç {@code tamsayı} kabul edilerek üretilir; bu varsayım tutmadığında
+ * {@link Deoptimization} fırlatılır.
+ */
+public interface CompiledFunction {
+    long call(JitContext context, long[] args);
+}
@@ -0,0 +1,20 @@
+// === src/jit/Deoptimization.java ===
+package jit;
+
+/**
+ * Derlenmiş kodun bir varsayımı tutmadığında fırlatılır: beklenmeyen bir
+ * argüman ya da sonuç tipi, değer döndürmeden biten bir gövde gibi.
+ * Yakalayan yorumlayıcı çağrıyı sözdizimi ağacında baştan çalıştırır;
+ * yalnızca yan etkisiz fonksiyonlar derlendiği için bu güvenlidir.
+ *
+ * <p>Sık fırlatıldığından tek bir örnek paylaşılır ve yığın izi tutulmaz.
+ */
+public final class Deoptimization extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public static final Deoptimization INSTANCE = new Deoptimization();
+
+    private Deoptimization() {
+        super("Derlenmiş koddan yorumlayıcıya dönülüyor", null, false, false);
+    }
+}
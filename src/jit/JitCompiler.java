@@ -0,0 +1,364 @@
+// === src/jit/JitCompiler.java ===
+package jit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import parser.ASTNode;
+import parser.DataType;
+import parser.Operator;
+
+/**
+ * Sık çağrılan fonksiyonları JVM bayt koduna derleyen üst kademe. Yorumlayıcı
+ * her fonksiyonun çağrı ve döngü dönüş sayısını tutar; eşik aşılınca
+ * {@link #compile} çağrılır ve üretilen sınıf gizli sınıf (hidden class)
+ * olarak yüklenir. Sonraki çağrılar doğrudan derlenmiş koda gider.
+ *
+ * <p>Derlenebilen alt küme sayısal çekirdeklerdir: parametreler, yerel
+ * değişkenler ve dönüş değeri {@code tamsayı}; deyimler tanımlama, atama,
+ * {@code ise}, {@code böyleyken}, {@code dön} ve fonksiyon çağrısıdır.
+ * Parametrelerin tamsayı olduğu varsayılır (tipleri kaynakta yazılmaz);
+ * varsayım tutmazsa {@link Deoptimization} ile yorumlayıcıya dönülür.
+ * Kendini çağıran fonksiyonlar derlenmiş yöntemi doğrudan çağırır; diğer
+ * çağrılar {@link JitContext} üzerinden yorumlayıcıya gider.
+ *
+ * <p>Aritmetik {@code interpreter.Operations} yöntemleriyle yapılır; taşma
+ * ve sıfıra bölme hataları yorumlayıcınınkilerle aynıdır. Örnek bir
+ * yorumlayıcıya aittir ve iş parçacığı güvenli değildir.
+ */
+public final class JitCompiler {
+    public static final int DEFAULT_THRESHOLD = 1000;
+
+    private static final String CLASS_NAME = "jit/CompiledKernel";
+    private static final String OPERATIONS = "interpreter/Operations";
+    private static final String CONTEXT = "jit/JitContext";
+    private static final String CONTEXT_DESCRIPTOR = "L" + CONTEXT + ";";
+    private static final String DEOPTIMIZATION = "jit/Deoptimization";
+    /** Tek bir yöntemin kullanabileceği en fazla yerel yuva (her tamsayı iki yuva). */
+    private static final int MAX_LOCALS = 0xFFFF;
+
+    /** Fonksiyon derlenebilen alt kümenin dışındaysa fırlatılır. */
+    private static final class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+
+    private final int threshold;
+    private int compiled;
+    private int rejected;
+    private long deoptimizations;
+
+    public JitCompiler(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /** Derlemeyi tetikleyen çağrı ve döngü dönüşü toplamı. */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Fonksiyonu derler ve yükler. Gövde derlenebilen alt kümenin dışındaysa
+     * {@code null} döner; fonksiyon yorumlanmaya devam eder.
+     */
+    public CompiledFunction compile(ASTNode.Function function) {
+        try {
+            byte[] bytes = new Emitter(function).emit();
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            Object instance = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+            compiled++;
+            return (CompiledFunction) instance;
+        } catch (Unsupported | UnsupportedOperationException e) {
+            rejected++;
+            return null;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Derlenen sınıf yüklenemedi: " + function.name, e);
+        }
+    }
+
+    /** Derlenmiş koddan yorumlayıcıya her dönüşte çağrılır. */
+    public void deoptimized() {
+        deoptimizations++;
+    }
+
+    public int compiledCount() {
+        return compiled;
+    }
+
+    public int rejectedCount() {
+        return rejected;
+    }
+
+    public long deoptimizationCount() {
+        return deoptimizations;
+    }
+
+    /** Tek bir fonksiyon için sınıf dosyası üretir. */
+    private static final class Emitter {
+        private final ASTNode.Function function;
+        private final ClassFile file = new ClassFile(CLASS_NAME, "java/lang/Object", "jit/CompiledFunction");
+        private final String descriptor;
+        private ClassFile.Code code;
+
+        Emitter(ASTNode.Function function) {
+            this.function = function;
+            this.descriptor = "(" + CONTEXT_DESCRIPTOR + "J".repeat(function.params.size()) + ")J";
+        }
+
+        byte[] emit() {
+            if (1 + 2L * function.frameSize > MAX_LOCALS) throw new Unsupported("çok fazla yerel değişken");
+            // Yöntem imzası en fazla 255 yuva taşıyabilir
+            if (1 + 2 * function.params.size() > 255) throw new Unsupported("çok fazla parametre");
+            emitConstructor();
+            emitBridge();
+            emitBody();
+            return file.toBytes();
+        }
+
+        private void emitConstructor() {
+            ClassFile.Code init = file.method(ClassFile.ACC_PUBLIC, "<init>", "()V", 1);
+            init.op(ClassFile.ALOAD_0, 1);
+            init.op2(ClassFile.INVOKESPECIAL, file.methodRef("java/lang/Object", "<init>", "()V"), -1);
+            init.op(ClassFile.RETURN, 0);
+        }
+
+        /** {@code call(context, args)}: diziyi açıp statik gövdeyi çağırır. */
+        private void emitBridge() {
+            int params = function.params.size();
+            ClassFile.Code bridge = file.method(ClassFile.ACC_PUBLIC, "call", "(" + CONTEXT_DESCRIPTOR + "[J)J", 3);
+            bridge.op(ClassFile.ALOAD_1, 1);
+            for (int i = 0; i < params; i++) {
+                bridge.op(ClassFile.ALOAD_2, 1);
+                bridge.pushInt(i);
+                bridge.op(ClassFile.LALOAD, 0);
+            }
+            bridge.op2(ClassFile.INVOKESTATIC, file.methodRef(CLASS_NAME, "run", descriptor), -(1 + 2 * params) + 2);
+            bridge.op(ClassFile.LRETURN, -2);
+        }
+
+        private void emitBody() {
+            code = file.method(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "run", descriptor, 1 + 2 * function.frameSize);
+            // Parametre olmayan yuvalar sıfırlanır; doğrulayıcı her yerel
+            // değişkenin okunmadan önce yazıldığını görür
+            for (int slot = function.params.size(); slot < function.frameSize; slot++) {
+                code.op(ClassFile.LCONST_0, 2);
+                code.storeLong(local(slot));
+            }
+            statement(function.body);
+            // Gövde 'dön' olmadan biterse sonuç tamsayı değildir
+            deoptimize();
+        }
+
+        private static int local(int slot) {
+            return 1 + 2 * slot;
+        }
+
+        private void deoptimize() {
+            code.op2(ClassFile.GETSTATIC, file.fieldRef(DEOPTIMIZATION, "INSTANCE", "L" + DEOPTIMIZATION + ";"), 1);
+            code.op(ClassFile.ATHROW, -1);
+        }
+
+        private void statement(ASTNode node) {
+            switch (node.kind) {
+                case VAR_DECL -> {
+                    ASTNode.VarDecl decl = (ASTNode.VarDecl) node;
+                    if (decl.depth != ASTNode.LOCAL || decl.dataType != DataType.TAMSAYI) {
+                        throw new Unsupported("tamsayı olmayan değişken: " + decl.name);
+                    }
+                    value(decl.initializer);
+                    code.storeLong(local(decl.slot));
+                }
+                case ASSIGN -> {
+                    ASTNode.Assign assignment = (ASTNode.Assign) node;
+                    if (assignment.depth != ASTNode.LOCAL) throw new Unsupported("global atama");
+                    if (assignment.coerce != null && assignment.coerce != DataType.TAMSAYI) {
+                        throw new Unsupported("tamsayı olmayan atama: " + assignment.name);
+                    }
+                    value(assignment.value);
+                    code.storeLong(local(assignment.slot));
+                }
+                case IF -> {
+                    ASTNode.If ifNode = (ASTNode.If) node;
+                    ClassFile.Label otherwise = new ClassFile.Label();
+                    condition(ifNode.condition, otherwise);
+                    statement(ifNode.thenBranch);
+                    if (ifNode.elseBranch == null) {
+                        code.bind(otherwise);
+                    } else {
+                        ClassFile.Label end = new ClassFile.Label();
+                        code.jump(ClassFile.GOTO, end, 0);
+                        code.bind(otherwise);
+                        statement(ifNode.elseBranch);
+                        code.bind(end);
+                    }
+                }
+                case WHILE -> {
+                    ASTNode.While loop = (ASTNode.While) node;
+                    ClassFile.Label top = new ClassFile.Label();
+                    ClassFile.Label exit = new ClassFile.Label();
+                    code.bind(top);
+                    condition(loop.condition, exit);
+                    statement(loop.body);
+                    code.jump(ClassFile.GOTO, top, 0);
+                    code.bind(exit);
+                }
+                case RETURN -> {
+                    value(((ASTNode.Return) node).value);
+                    code.op(ClassFile.LRETURN, -2);
+                }
+                case BLOCK -> {
+                    for (ASTNode statement : ((ASTNode.Block) node).statements) {
+                        statement(statement);
+                    }
+                }
+                case CALL -> {
+                    call((ASTNode.Call) node);
+                    code.op(ClassFile.POP2, -2);
+                }
+                case COMMENT -> {}
+                default -> throw new Unsupported("deyim: " + node.kind);
+            }
+        }
+
+        /** Tamsayı değerli ifadeyi yığına koyar. */
+        private void value(ASTNode node) {
+            switch (node.kind) {
+                case INT_LIT -> code.pushLong(((ASTNode.IntLit) node).boxed);
+                case VAR -> {
+                    ASTNode.Var var = (ASTNode.Var) node;
+                    if (var.depth != ASTNode.LOCAL) throw new Unsupported("global değişken: " + var.name);
+                    code.loadLong(local(var.slot));
+                }
+                case BIN_OP -> {
+                    ASTNode.BinOp binOp = (ASTNode.BinOp) node;
+                    String method = switch (binOp.op) {
+                        case ADD -> "addExact";
+                        case SUB -> "subtractExact";
+                        case MUL -> "multiplyExact";
+                        case DIV -> "longDivide";
+                        case MOD -> "longModulo";
+                        default -> throw new Unsupported("tamsayı olmayan işlem: " + binOp.op);
+                    };
+                    if (binOp.operandType != null && binOp.operandType != DataType.TAMSAYI) {
+                        throw new Unsupported("tamsayı olmayan işlem: " + binOp.operandType);
+                    }
+                    value(binOp.left);
+                    value(binOp.right);
+                    code.op2(ClassFile.INVOKESTATIC, file.methodRef(OPERATIONS, method, "(JJ)J"), -2);
+                }
+                case CALL -> call((ASTNode.Call) node);
+                default -> throw new Unsupported("ifade: " + node.kind);
+            }
+        }
+
+        private void call(ASTNode.Call node) {
+            int argc = node.args.size();
+            code.op(ClassFile.ALOAD_0, 1);
+            if (node.name.equals(function.name)) {
+                if (argc != function.params.size()) throw new Unsupported("parametre sayısı uyuşmuyor");
+                for (ASTNode arg : node.args) {
+                    value(arg);
+                }
+                code.op2(ClassFile.INVOKESTATIC, file.methodRef(CLASS_NAME, "run", descriptor), -(1 + 2 * argc) + 2);
+                return;
+            }
+            code.pushString(node.name);
+            code.pushInt(node.line);
+            code.pushInt(argc);
+            code.op1(ClassFile.NEWARRAY, ClassFile.T_LONG, 0);
+            for (int i = 0; i < argc; i++) {
+                code.op(ClassFile.DUP, 1);
+                code.pushInt(i);
+                value(node.args.get(i));
+                code.op(ClassFile.LASTORE, -4);
+            }
+            code.invokeInterface(file.interfaceMethodRef(CONTEXT, "call", "(Ljava/lang/String;I[J)J"), 3, -4 + 2);
+        }
+
+        /** Koşul yanlışsa {@code otherwise} etiketine atlar. */
+        private void condition(ASTNode node, ClassFile.Label otherwise) {
+            if (node.kind == ASTNode.Kind.BIN_OP && comparison(((ASTNode.BinOp) node).op) != 0) {
+                ASTNode.BinOp binOp = (ASTNode.BinOp) node;
+                value(binOp.left);
+                value(binOp.right);
+                code.op(ClassFile.LCMP, -3);
+                code.jump(negate(comparison(binOp.op)), otherwise, -1);
+                return;
+            }
+            bool(node);
+            code.jump(ClassFile.IFEQ, otherwise, -1);
+        }
+
+        /**
+         * Mantıksal değeri 0 ya da 1 olarak yığına koyar. {@code ve} ile
+         * {@code veya} yorumlayıcıdaki gibi iki yanı da hesaplar.
+         */
+        private void bool(ASTNode node) {
+            if (node.kind == ASTNode.Kind.BOOLEAN_LIT) {
+                code.pushInt(((ASTNode.BooleanLit) node).value ? 1 : 0);
+                return;
+            }
+            if (node.kind == ASTNode.Kind.BIN_OP) {
+                ASTNode.BinOp binOp = (ASTNode.BinOp) node;
+                if (binOp.op == Operator.AND || binOp.op == Operator.OR) {
+                    bool(binOp.left);
+                    bool(binOp.right);
+                    code.op(binOp.op == Operator.AND ? ClassFile.IAND : ClassFile.IOR, -1);
+                    return;
+                }
+                int jump = comparison(binOp.op);
+                if (jump != 0) {
+                    value(binOp.left);
+                    value(binOp.right);
+                    code.op(ClassFile.LCMP, -3);
+                    select(jump);
+                    return;
+                }
+            }
+            // Tamsayı koşulu: sıfırdan farklıysa doğru
+            value(node);
+            code.op(ClassFile.LCONST_0, 2);
+            code.op(ClassFile.LCMP, -3);
+            select(ClassFile.IFNE);
+        }
+
+        /** Yığındaki karşılaştırma sonucunu {@code jump} tutarsa 1'e, tutmazsa 0'a çevirir. */
+        private void select(int jump) {
+            ClassFile.Label yes = new ClassFile.Label();
+            ClassFile.Label end = new ClassFile.Label();
+            code.jump(jump, yes, -1);
+            code.pushInt(0);
+            code.jump(ClassFile.GOTO, end, 0);
+            code.bind(yes);
+            code.pushInt(1);
+            code.bind(end);
+        }
+
+        /** {@code lcmp} sonucuna uygulanacak atlama; karşılaştırma değilse 0. */
+        private static int comparison(Operator op) {
+            return switch (op) {
+                case EQ -> ClassFile.IFEQ;
+                case NE -> ClassFile.IFNE;
+                case LT -> ClassFile.IFLT;
+                case GE -> ClassFile.IFGE;
+                case GT -> ClassFile.IFGT;
+                case LE -> ClassFile.IFLE;
+                default -> 0;
+            };
+        }
+
+        private static int negate(int jump) {
+            return switch (jump) {
+                case ClassFile.IFEQ -> ClassFile.IFNE;
+                case ClassFile.IFNE -> ClassFile.IFEQ;
+                case ClassFile.IFLT -> ClassFile.IFGE;
+                case ClassFile.IFGE -> ClassFile.IFLT;
+                case ClassFile.IFGT -> ClassFile.IFLE;
+                case ClassFile.IFLE -> ClassFile.IFGT;
+                default -> throw new IllegalArgumentException("Koşullu atlama değil: " + jump);
+            };
+        }
+    }
+}
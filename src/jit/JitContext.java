@@ -0,0 +1,15 @@
+// === src/jit/JitContext.java ===
+package jit;
+
+/**
+ * Derlenmiş kodun başka fonksiyonları çağırmak için kullandığı geri çağrı.
+ * Yorumlayıcı uygular: çağrılan fonksiyon derlenmişse oraya, değilse
+ * sözdizimi ağacına yönlendirilir.
+ */
+public interface JitContext {
+    /**
+     * {@code name} fonksiyonunu çağırır. Sonuç tamsayı değilse ya da çağrı
+     * derlenmiş koddan yapılamıyorsa {@link Deoptimization} fırlatılır.
+     */
+    long call(String name, int line, long[] args);
+}
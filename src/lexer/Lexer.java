@@ -1,127 +1,429 @@
 // === src/lexer/Lexer.java ===
 package lexer;
 
+import diag.Channel;
+import diag.Diagnostics;
+import diag.Level;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.regex.*;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
 
 public class Lexer {
-    private static class Rule {
-        public final Pattern pattern;
-        public final TokenType type;
+    /**
+     * Anahtar kelimeler için karakter ağacı (trie). Kaynak metin üzerinde
+     * doğrudan yürünür; alt metin oluşturmadan ve HashMap taramadan
+     * anahtar kelime eşleşmesi yapılır.
+     */
+    private static final class KeywordTrie {
+        private char[] labels = new char[0];
+        private KeywordTrie[] children = new KeywordTrie[0];
+        private TokenType type;
+        private String keyword;
 
-        public Rule(String regex, TokenType type) {
-            this.pattern = Pattern.compile("^" + regex);
-            this.type = type;
+        void insert(String word, TokenType tokenType) {
+            KeywordTrie node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.childOrCreate(word.charAt(i));
+            }
+            node.type = tokenType;
+            node.keyword = word;
+        }
+
+        private KeywordTrie childOrCreate(char c) {
+            KeywordTrie child = child(c);
+            if (child != null) return child;
+            int n = labels.length;
+            labels = Arrays.copyOf(labels, n + 1);
+            children = Arrays.copyOf(children, n + 1);
+            labels[n] = c;
+            children[n] = new KeywordTrie();
+            return children[n];
+        }
+
+        private KeywordTrie child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) return children[i];
+            }
+            return null;
         }
+
+        /** [start, end) aralığı tam olarak bir anahtar kelimeyse düğümünü döndürür. */
+        KeywordTrie lookup(char[] source, int start, int end) {
+            KeywordTrie node = this;
+            for (int i = start; i < end && node != null; i++) {
+                node = node.child(source[i]);
+            }
+            return node != null && node.type != null ? node : null;
+        }
+    }
+
+    // Anahtar kelime tablosu değişmez olduğundan tüm Lexer örnekleri paylaşır
+    private static final KeywordTrie KEYWORDS = new KeywordTrie();
+
+    static {
+        KEYWORDS.insert("tanımla", TokenType.KEYWORD_TANIMLA);
+        KEYWORDS.insert("tür", TokenType.KEYWORD_TIPI);
+        KEYWORDS.insert("başlangıç", TokenType.KEYWORD_BASLANGIC);
+        KEYWORDS.insert("ise", TokenType.KEYWORD_ISE);
+        KEYWORDS.insert("değilse", TokenType.KEYWORD_DEĞİLSE);
+        KEYWORDS.insert("böyleyken", TokenType.KEYWORD_BÖYLEYKEN);
+        KEYWORDS.insert("tekrar", TokenType.KEYWORD_TEKRAR);
+        KEYWORDS.insert("yazdır", TokenType.KEYWORD_YAZDIR);
+        KEYWORDS.insert("fonksiyon", TokenType.KEYWORD_FONKSIYON);
+        KEYWORDS.insert("tamsayı", TokenType.DATA_TYPE_TAM);
+        KEYWORDS.insert("ondalık", TokenType.DATA_TYPE_ONDALIK);
+        KEYWORDS.insert("yazı", TokenType.DATA_TYPE_YAZI);
+        KEYWORDS.insert("mantıksal", TokenType.DATA_TYPE_MANTIKAL);
+        KEYWORDS.insert("doğru", TokenType.KEYWORD_DOGRU);
+        KEYWORDS.insert("yanlış", TokenType.KEYWORD_YANLIS);
+        KEYWORDS.insert("dön", TokenType.KEYWORD_GERI_VER);
+        KEYWORDS.insert("ve", TokenType.LOGIC_OP_VE);
+        KEYWORDS.insert("veya", TokenType.LOGIC_OP_VEYA);
     }
 
-    private final List<Rule> rules = new ArrayList<>();
-    private final Map<String, TokenType> keywords = new HashMap<>();
+    /** Okuyucudan bir seferde okunan ve arabelleğin başlangıçtaki boyutu. */
+    private static final int CHUNK = 8192;
+    private static final int EOF_CHAR = -1;
+
+    private final Diagnostics diagnostics;
+    private boolean trace;
+    private boolean dump;
+    private int tokenCount;
+    private Token eof;
+
+    // Ölçüm açıksa akış kipinde belirteç üretmek için harcanan toplam süre
+    private Histogram lexTime;
+    private long lexNanos;
+
+    // Kaynağın henüz tüketilmemiş kısmı buf[pos, limit) aralığındadır. Tarama
+    // kodu konumları pos'a göre göreli tutar; arabellek dolduğunda tüketilmiş
+    // kısım atılarak kaydırılabilir ve bellek kullanımı en uzun belirteçle sınırlı kalır.
+    private Reader reader;
+    private char[] buf;
+    private int pos;
+    private int limit;
+    private int line;
+    private Token pending;
 
     public Lexer() {
-        keywords.put("tanımla", TokenType.KEYWORD_TANIMLA);
-        keywords.put("tür", TokenType.KEYWORD_TIPI);
-        keywords.put("başlangıç", TokenType.KEYWORD_BASLANGIC);
-        keywords.put("ise", TokenType.KEYWORD_ISE);
-        keywords.put("değilse", TokenType.KEYWORD_DEĞİLSE);
-        keywords.put("böyleyken", TokenType.KEYWORD_BÖYLEYKEN);
-        keywords.put("tekrar", TokenType.KEYWORD_TEKRAR);
-        keywords.put("yazdır", TokenType.KEYWORD_YAZDIR);
-        keywords.put("fonksiyon", TokenType.KEYWORD_FONKSIYON);
-        keywords.put("tamsayı", TokenType.DATA_TYPE_TAM);
-        keywords.put("ondalık", TokenType.DATA_TYPE_ONDALIK);
-        keywords.put("yazı", TokenType.DATA_TYPE_YAZI);
-        keywords.put("mantıksal", TokenType.DATA_TYPE_MANTIKAL);
-        keywords.put("doğru", TokenType.KEYWORD_DOGRU);
-        keywords.put("yanlış", TokenType.KEYWORD_YANLIS);
-        keywords.put("dön", TokenType.KEYWORD_GERI_VER);
-        keywords.put("ve", TokenType.LOGIC_OP_VE);
-        keywords.put("veya", TokenType.LOGIC_OP_VEYA);
-
-        rules.add(new Rule("\\?\\?[^\\?]*\\?\\?", TokenType.INPUT_PROMPT));
-        rules.add(new Rule("@[^\\n]*", TokenType.COMMENT));
-        rules.add(new Rule("[0-9]+\\.[0-9]+", TokenType.FLOAT_LIT));
-        rules.add(new Rule("[0-9]+", TokenType.INT_LIT));
-        rules.add(new Rule("\"[^\"]*\"", TokenType.STRING_LITERAL));
-        rules.add(new Rule("==", TokenType.COMP_OP_ESITTIR));
-        rules.add(new Rule(">=", TokenType.COMP_OP_BUYUK_ESIT));
-        rules.add(new Rule("<=", TokenType.COMP_OP_KUCUK_ESIT));
-        rules.add(new Rule(">", TokenType.COMP_OP_BUYUKTUR));
-        rules.add(new Rule("<", TokenType.COMP_OP_KUCUKTUR));
-        rules.add(new Rule("=", TokenType.ASSIGN_OP));
-        rules.add(new Rule("\\+", TokenType.BIN_OP_ARTI));
-        rules.add(new Rule("-", TokenType.BIN_OP_EKSI));
-        rules.add(new Rule("\\*", TokenType.BIN_OP_CARPI));
-        rules.add(new Rule("/", TokenType.BIN_OP_BOLU));
-        rules.add(new Rule("%", TokenType.BIN_OP_MODULO));
-        rules.add(new Rule("\\(", TokenType.LEFT_PAREN));
-        rules.add(new Rule("\\)", TokenType.RIGHT_PAREN));
-        rules.add(new Rule("\\{", TokenType.LEFT_BRACE));
-        rules.add(new Rule("}", TokenType.RIGHT_BRACE));
-        rules.add(new Rule("\\$", TokenType.DOLLAR));
-        rules.add(new Rule(",", TokenType.COMMA));
-        rules.add(new Rule("[a-zA-ZçğıöşüÇĞİÖŞÜ_][a-zA-Z0-9çğıöşüÇĞİÖŞÜ_]*", TokenType.IDENT));
+        this(Diagnostics.silent());
+    }
+
+    public Lexer(Diagnostics diagnostics) {
+        this.diagnostics = diagnostics;
     }
 
+    /** Çözümleme süresinin yazılacağı kayıt; {@code null} ise ölçülmez. */
+    public void setMetrics(MetricsRegistry registry) {
+        this.lexTime = registry == null ? null : registry.lexTime();
+    }
+
+    /** Metnin tamamını belirteçlere ayırır; liste EOF belirteciyle biter. */
     public List<Token> tokenize(String input) {
+        long begin = lexTime != null ? System.nanoTime() : 0;
+        char[] chars = input.toCharArray();
+        start(null, chars, chars.length);
         List<Token> tokens = new ArrayList<>();
-        int line = 1;
-
-        while (!input.isEmpty()) {
-            input = input.stripLeading();
-            if (input.isEmpty()) break;
-            
-            System.out.println("Kalan metin: '" + input + "'");
-            boolean matched = false;
-
-            // Önce anahtar kelimeleri kontrol et
-            for (Map.Entry<String, TokenType> entry : keywords.entrySet()) {
-                String keyword = entry.getKey();
-                if (input.startsWith(keyword) && 
-                    (input.length() == keyword.length() || 
-                     !Character.isLetterOrDigit(input.charAt(keyword.length())))) {
-                    tokens.add(new Token(entry.getValue(), keyword, line));
-                    input = input.substring(keyword.length());
-                    matched = true;
-                    System.out.println("Anahtar kelime bulundu: " + entry.getValue());
-                    break;
+        Token token;
+        do {
+            token = nextToken();
+            tokens.add(token);
+        } while (token.type != TokenType.EOF);
+        buf = null;
+        if (lexTime != null) lexTime.recordSince(begin);
+        return tokens;
+    }
+
+    /**
+     * Okuyucuyu belirteç akışı olarak sunar. Belirteçler istendikçe üretilir;
+     * okuyucu tamamen tüketildiğinde kapatılmaz. Bir {@code Lexer} aynı anda
+     * tek bir akış üretebilir.
+     */
+    public TokenSource stream(Reader input) {
+        start(input, new char[CHUNK], 0);
+        return new TokenSource() {
+            // İleriye bakılan belirteçler; sözdizimi çözümleyicisi en fazla iki belirteç ileriye bakar
+            private final ArrayDeque<Token> lookahead = new ArrayDeque<>(4);
+
+            public Token peek(int ahead) {
+                while (lookahead.size() <= ahead) {
+                    lookahead.addLast(pull());
                 }
+                if (ahead == 0) return lookahead.peekFirst();
+                Iterator<Token> it = lookahead.iterator();
+                for (int i = 0; i < ahead; i++) it.next();
+                return it.next();
+            }
 
+            public Token next() {
+                return lookahead.isEmpty() ? pull() : lookahead.pollFirst();
             }
 
-            if (!matched) {
-                // Sonra diğer kuralları kontrol et
-                for (Rule rule : rules) {
-                    Matcher matcher = rule.pattern.matcher(input);
-                    if (matcher.find()) {
-                        String lexeme = matcher.group();
-                        TokenType type = rule.type;
-                        System.out.println("Eşleşme bulundu: '" + lexeme + "' -> " + type);
-                        tokens.add(new Token(type, lexeme, line));
-                        input = input.substring(lexeme.length());
-                        matched = true;
-                        break;
-                    }
-                }
+            public long lexNanos() {
+                return lexNanos;
             }
+        };
+    }
+
+    /**
+     * Akış kipinde sıradaki belirteci üretir. Ölçüm açıksa her belirteç
+     * ayrı zamanlanır; toplam süre dosya sonunda tek bir kayıt olarak yazılır.
+     */
+    private Token pull() {
+        if (lexTime == null || eof != null) return nextToken();
+        long begin = System.nanoTime();
+        Token token = nextToken();
+        lexNanos += System.nanoTime() - begin;
+        if (eof != null) lexTime.record(lexNanos);
+        return token;
+    }
+
+    /** Son {@link #tokenize} ya da {@link #stream} çağrısında şimdiye kadar üretilen belirteç sayısı. */
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    private void start(Reader input, char[] chars, int length) {
+        this.trace = diagnostics.isEnabled(Channel.LEXER, Level.TRACE);
+        this.dump = diagnostics.isEnabled(Channel.TOKENS, Level.INFO);
+        this.reader = input;
+        this.buf = chars;
+        this.pos = 0;
+        this.limit = length;
+        this.line = 1;
+        this.tokenCount = 0;
+        this.eof = null;
+        this.lexNanos = 0;
+        if (dump) diagnostics.log(Channel.TOKENS, Level.INFO, "== TOKENLER ==");
+    }
+
+    private Token nextToken() {
+        if (eof != null) return eof;
+
+        skipWhitespace();
+        if (charAt(0) == EOF_CHAR) {
+            eof = new Token(TokenType.EOF, "", line);
+            reader = null;
+            buf = null;
+            return produced(eof);
+        }
+
+        if (trace) trace("Kalan metin: '" + new String(buf, pos, limit - pos) + "'");
+
+        // Önce anahtar kelimeleri, sonra diğer kuralları kontrol et
+        if (!scanKeyword() && !scanToken()) {
+            String badChar = String.valueOf(buf[pos]);
+            if (trace) trace("Eşleşme bulunamadı, karakter atlanıyor: '" + badChar + "'");
+            pending = new Token(TokenType.ERROR, badChar, line);
+            pos++;
+        }
+        Token token = pending;
+        pending = null;
+        return produced(token);
+    }
+
+    private Token produced(Token token) {
+        tokenCount++;
+        if (dump) {
+            diagnostics.log(Channel.TOKENS, Level.INFO, token.toString());
+            if (token.type == TokenType.EOF) diagnostics.log(Channel.TOKENS, Level.INFO, "================");
+        }
+        return token;
+    }
+
+    private void trace(String message) {
+        diagnostics.log(Channel.LEXER, Level.TRACE, message);
+    }
 
-            if (!matched) {
-                String badChar = input.substring(0, 1);
-                System.out.println("Eşleşme bulunamadı, karakter atlanıyor: '" + badChar + "'");
-                tokens.add(new Token(TokenType.ERROR, badChar, line));
-                input = input.substring(1);
+    /**
+     * pos'tan {@code offset} ilerideki karakter; kaynak bittiyse {@code EOF_CHAR}.
+     * Gerekirse okuyucudan yeni veri çeker.
+     */
+    private int charAt(int offset) {
+        int index = pos + offset;
+        while (index >= limit) {
+            if (!fill()) return EOF_CHAR;
+            index = pos + offset;
+        }
+        return buf[index];
+    }
+
+    private boolean fill() {
+        if (reader == null) return false;
+        if (limit == buf.length) {
+            if (pos > 0) {
+                // Tüketilmiş kısmı at
+                System.arraycopy(buf, pos, buf, 0, limit - pos);
+                limit -= pos;
+                pos = 0;
+            } else {
+                // Tek bir belirteç arabellekten uzun
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+        }
+        try {
+            int n = reader.read(buf, limit, buf.length - limit);
+            if (n < 0) {
+                reader = null;
+                return false;
+            }
+            limit += n;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void skipWhitespace() {
+        int c;
+        while ((c = charAt(0)) != EOF_CHAR && Character.isWhitespace(c)) {
+            if (c == '\n') line++;
+            pos++;
+        }
+    }
+
+    /**
+     * Anahtar kelime, yalnızca harf/rakam dizisinin tamamıyla eşleşirse kabul edilir;
+     * "veya" içindeki "ve" veya "isim" içindeki "is" gibi önekler sayılmaz.
+     */
+    private boolean scanKeyword() {
+        int length = 0;
+        int c;
+        while ((c = charAt(length)) != EOF_CHAR && Character.isLetterOrDigit(c)) {
+            length++;
+        }
+        if (length == 0) return false;
+
+        KeywordTrie match = KEYWORDS.lookup(buf, pos, pos + length);
+        if (match == null) return false;
+
+        pending = new Token(match.type, match.keyword, line);
+        pos += length;
+        if (trace) trace("Anahtar kelime bulundu: " + match.type);
+        return true;
+    }
+
+    private boolean scanToken() {
+        int c = charAt(0);
+        switch (c) {
+            case '?': {
+                // ??istem metni??
+                if (charAt(1) != '?') return false;
+                // İstem metni '?' içeremez; ilk '?' kapanışın başlangıcı olmalı
+                int close = find('?', 2);
+                if (close < 0 || charAt(close + 1) != '?') return false;
+                return emit(TokenType.INPUT_PROMPT, close + 2);
             }
+            case '@': {
+                int end = find('\n', 0);
+                return emit(TokenType.COMMENT, end < 0 ? remaining() : end);
+            }
+            case '"': {
+                int close = find('"', 1);
+                if (close < 0) return false;
+                return emit(TokenType.STRING_LITERAL, close + 1);
+            }
+            case '=':
+                return charAt(1) == '='
+                        ? emit(TokenType.COMP_OP_ESITTIR, 2)
+                        : emit(TokenType.ASSIGN_OP, 1);
+            case '>':
+                return charAt(1) == '='
+                        ? emit(TokenType.COMP_OP_BUYUK_ESIT, 2)
+                        : emit(TokenType.COMP_OP_BUYUKTUR, 1);
+            case '<':
+                return charAt(1) == '='
+                        ? emit(TokenType.COMP_OP_KUCUK_ESIT, 2)
+                        : emit(TokenType.COMP_OP_KUCUKTUR, 1);
+            case '+': return emit(TokenType.BIN_OP_ARTI, 1);
+            case '-': return emit(TokenType.BIN_OP_EKSI, 1);
+            case '*': return emit(TokenType.BIN_OP_CARPI, 1);
+            case '/': return emit(TokenType.BIN_OP_BOLU, 1);
+            case '%': return emit(TokenType.BIN_OP_MODULO, 1);
+            case '(': return emit(TokenType.LEFT_PAREN, 1);
+            case ')': return emit(TokenType.RIGHT_PAREN, 1);
+            case '{': return emit(TokenType.LEFT_BRACE, 1);
+            case '}': return emit(TokenType.RIGHT_BRACE, 1);
+            case '$': return emit(TokenType.DOLLAR, 1);
+            case ',': return emit(TokenType.COMMA, 1);
+            default:
+                break;
+        }
 
-            if (input.startsWith("\n")) {
-                line++;
-                input = input.substring(1);
+        if (isDigit(c)) {
+            int end = skipDigits(0);
+            if (charAt(end) == '.' && isDigit(charAt(end + 1))) {
+                return emit(TokenType.FLOAT_LIT, skipDigits(end + 1));
             }
+            return emit(TokenType.INT_LIT, end);
         }
 
-        tokens.add(new Token(TokenType.EOF, "", line));
-        return tokens;
+        if (isIdentStart(c)) {
+            int end = 1;
+            while (isIdentPart(charAt(end))) {
+                end++;
+            }
+            return emit(TokenType.IDENT, end);
+        }
+
+        return false;
     }
-}
 
+    /** pos'tan itibaren {@code length} karakteri belirteç olarak üretir. */
+    private boolean emit(TokenType type, int length) {
+        String lexeme = new String(buf, pos, length);
+        if (trace) trace("Eşleşme bulundu: '" + lexeme + "' -> " + type);
+        pending = new Token(type, lexeme, line);
+        pos += length;
+        // Yazı ve istem metinleri birden fazla satıra yayılabilir
+        if (type == TokenType.STRING_LITERAL || type == TokenType.INPUT_PROMPT) {
+            for (int i = 0; i < length; i++) {
+                if (lexeme.charAt(i) == '\n') line++;
+            }
+        }
+        return true;
+    }
 
+    /** {@code from} göreli konumundan başlayarak karakterin ilk göreli konumu; yoksa -1. */
+    private int find(char target, int from) {
+        int c;
+        for (int i = from; (c = charAt(i)) != EOF_CHAR; i++) {
+            if (c == target) return i;
+        }
+        return -1;
+    }
 
+    /** Kaynağın pos'tan sonraki kalan uzunluğu; yalnızca kaynak sonuna kadar okunduktan sonra anlamlıdır. */
+    private int remaining() {
+        return limit - pos;
+    }
+
+    private int skipDigits(int from) {
+        while (isDigit(charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || isTurkishLetter(c);
+    }
+
+    private static boolean isIdentPart(int c) {
+        return isIdentStart(c) || isDigit(c);
+    }
+
+    private static boolean isTurkishLetter(int c) {
+        return switch (c) {
+            case 'ç', 'ğ', 'ı', 'ö', 'ş', 'ü', 'Ç', 'Ğ', 'İ', 'Ö', 'Ş', 'Ü' -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+// === src/lexer/TokenSource.java ===
+package lexer;
+
+import java.util.List;
+
+/**
+ * Belirteçleri istendikçe üreten kaynak. Sözdizimi çözümleyicisi yalnızca
+ * birkaç belirteç ileriye bakar; kaynağın tamamının bellekte olması gerekmez.
+ * Dosya sonuna gelindiğinde {@code EOF} belirteci tekrar tekrar döner.
+ */
+public interface TokenSource {
+    /** Sıradaki {@code ahead}. belirteci tüketmeden döndürür; 0 sıradaki belirteçtir. */
+    Token peek(int ahead);
+
+    /** Sıradaki belirteci tüketir ve döndürür. */
+    Token next();
+
+    default Token peek() {
+        return peek(0);
+    }
+
+    /**
+     * Belirteçleri üretmek için şimdiye kadar harcanan süre, nanosaniye.
+     * Ölçülmüyorsa ya da belirteçler önceden üretilmişse 0.
+     */
+    default long lexNanos() {
+        return 0;
+    }
+
+    /** Önceden üretilmiş bir listeyi kaynak olarak kullanır; liste EOF ile bitmelidir. */
+    static TokenSource of(List<Token> tokens) {
+        return new TokenSource() {
+            private int current;
+
+            public Token peek(int ahead) {
+                return tokens.get(Math.min(current + ahead, tokens.size() - 1));
+            }
+
+            public Token next() {
+                Token token = peek(0);
+                if (current < tokens.size() - 1) current++;
+                return token;
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+// === src/main/BatchRunner.java ===
+package main;
+
+import engine.CompiledScript;
+import engine.ExecutionContext;
+import engine.GokDil;
+import interpreter.Limits;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import metrics.MetricsRegistry;
+
+/**
+ * {@code --batch} kipi: verilen dizinlerdeki ya da kalıplara uyan bütün
+ * programları tek JVM'de, sabit boyutlu bir havuzda paralel çalıştırır. Her
+ * program kendi {@link ExecutionContext} örneğiyle çalışır; çıktısı
+ * bellekte toplanır, girdisi boştur. Sonunda dosya başına durum, süre ve
+ * çıktının SHA-256 özeti yazılır.
+ *
+ * <p>Havuzun iş parçacıkları, tek dosya çalıştırılırken olduğu gibi
+ * {@code --max-stack-bytes} boyutunda yığınla oluşturulur; derin özyineleme
+ * iki kipte de aynı derinlikte başarılı olur ya da aynı hatayı verir.
+ */
+final class BatchRunner {
+    /** Bir dosyanın çalıştırma sonucu. */
+    private static final class Result {
+        final Path file;
+        final long nanos;
+        final String outputHash;
+        final String error;
+
+        Result(Path file, long nanos, String outputHash, String error) {
+            this.file = file;
+            this.nanos = nanos;
+            this.outputHash = outputHash;
+            this.error = error;
+        }
+    }
+
+    private final GokDil gokdil;
+    private final Limits limits;
+    private final MetricsRegistry metrics;
+    private final int parallelism;
+    private final long stackBytes;
+
+    BatchRunner(Options options) {
+        this.gokdil = new GokDil(options.engine, options.optimizationLevel, options.metricsRegistry());
+        this.limits = options.limits;
+        this.metrics = options.metricsRegistry();
+        this.parallelism = options.jobs;
+        this.stackBytes = options.maxStackBytes;
+    }
+
+    /** Dosyaları çalıştırır ve özeti yazar; hatalı dosya sayısını döndürür. */
+    int run(List<Path> files, PrintStream out) throws InterruptedException {
+        List<Callable<Result>> tasks = new ArrayList<>(files.size());
+        for (Path file : files) {
+            tasks.add(() -> execute(file));
+        }
+
+        long start = System.nanoTime();
+        List<Future<Result>> futures;
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism,
+                task -> new Thread(null, task, "gokdil-batch-" + threads.incrementAndGet(), stackBytes));
+        try {
+            futures = pool.invokeAll(tasks);
+        } finally {
+            pool.shutdown();
+        }
+        long wall = System.nanoTime() - start;
+
+        int failed = 0;
+        long total = 0;
+        out.printf("%-6s %10s  %-16s  %s%n", "DURUM", "SÜRE(ms)", "ÇIKTI ÖZETİ", "DOSYA");
+        for (Future<Result> future : futures) {
+            Result result;
+            try {
+                result = future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            total += result.nanos;
+            if (result.error == null) {
+                out.printf(Locale.ROOT, "%-6s %10.1f  %-16s  %s%n", "TAMAM", result.nanos / 1e6, result.outputHash, result.file);
+            } else {
+                failed++;
+                out.printf(Locale.ROOT, "%-6s %10.1f  %-16s  %s: %s%n", "HATA", result.nanos / 1e6, "-", result.file, result.error);
+            }
+        }
+        out.printf(Locale.ROOT, "%d dosya, %d başarılı, %d hatalı; toplam %.1f ms, geçen süre %.1f ms (%d iş parçacığı)%n",
+                files.size(), files.size() - failed, failed, total / 1e6, wall / 1e6, parallelism);
+        return failed;
+    }
+
+    private Result execute(Path file) {
+        long start = System.nanoTime();
+        try {
+            CompiledScript script = gokdil.compile(Files.readString(file));
+            ExecutionContext context = new ExecutionContext().setLimits(limits).setMetrics(metrics);
+            script.run(context);
+            String output = context.getOutput().toString();
+            return new Result(file, System.nanoTime() - start, hash(output), null);
+        } catch (IOException e) {
+            return new Result(file, System.nanoTime() - start, null, "Dosya okuma hatası: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return new Result(file, System.nanoTime() - start, null, firstLine(String.valueOf(e.getMessage())));
+        } catch (StackOverflowError e) {
+            return new Result(file, System.nanoTime() - start, null, "Yığın taşması");
+        }
+    }
+
+    private static String firstLine(String message) {
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline) + " ...";
+    }
+
+    private static String hash(String output) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(output.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Girdileri dosya listesine çevirir. Dizinler içindeki {@code .txt}
+     * dosyalarını, {@code test/*.txt} gibi kalıplar eşleşen dosyaları verir;
+     * kalıplar kabuk açmasın diye tırnak içinde verilmelidir. Sonuç sıralıdır
+     * ve tekrar içermez.
+     */
+    static List<Path> files(List<String> inputs) throws IOException {
+        Set<Path> files = new TreeSet<>();
+        for (String input : inputs) {
+            Path path = Path.of(input);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> entries = Files.list(path)) {
+                    entries.filter(p -> Files.isRegularFile(p) && p.getFileName().toString().endsWith(".txt"))
+                            .forEach(files::add);
+                }
+                continue;
+            }
+            int wildcard = firstWildcard(input);
+            if (wildcard < 0) {
+                if (!Files.isRegularFile(path)) {
+                    throw new IOException("Dosya bulunamadı: " + path.toAbsolutePath());
+                }
+                files.add(path);
+                continue;
+            }
+            // Joker içermeyen en uzun dizin ön eki taramanın tabanıdır
+            int separator = input.lastIndexOf('/', wildcard);
+            Path base = separator < 0 ? Path.of("") : Path.of(input.substring(0, separator + 1));
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+            try (Stream<Path> entries = Files.walk(base.toString().isEmpty() ? Path.of(".") : base)) {
+                entries.filter(Files::isRegularFile)
+                        .map(p -> separator < 0 ? Path.of(".").relativize(p) : p)
+                        .filter(matcher::matches)
+                        .forEach(files::add);
+            }
+        }
+        return new ArrayList<>(files);
+    }
+
+    private static int firstWildcard(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if ("*?[{".indexOf(input.charAt(i)) >= 0) return i;
+        }
+        return -1;
+    }
+}
@@ -1,20 +1,50 @@
 // === main/Main.java ===
 package main;
 
+import analysis.PurityAnalyzer;
+import analysis.Resolver;
+import analysis.TypeChecker;
+import cache.ProgramCache;
+import diag.Channel;
+import diag.Diagnostics;
+import diag.Level;
+import engine.Engine;
 import interpreter.*;
 import java.awt.*;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Scanner;
+import java.util.Set;
+import jit.JitCompiler;
+import metrics.MetricsRegistry;
+import optimizer.Optimizer;
+import output.BufferedOutput;
+import output.Output;
+import output.StringOutput;
 import javax.swing.*;
 import lexer.*;
 import parser.*;
+import profile.Profiler;
+import profile.SpecializationReport;
+import vm.Chunk;
+import vm.VM;
 
 public class Main {
+    /** Profil raporunda gösterilen fonksiyon ve satır sayısı. */
+    private static final int PROFILE_TOP = 10;
+
     private static void createAndShowGUI() {
         JFrame frame = new JFrame("GökDil - Türkçe Programlama Dili");
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -124,39 +154,35 @@ public class Main {
             }
 
             Parser parser = new Parser();
-            ASTNode ast = parser.parse(tokens);
-            
-            // Çıktıları yakalamak için PrintStream'i değiştir
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            PrintStream originalOut = System.out;
-            System.setOut(new PrintStream(outputStream));
+            ASTNode.Program ast = parser.parse(tokens);
+            new TypeChecker().check(ast);
+            ast = new Optimizer().optimize(ast);
+            new Resolver().resolve(ast);
             
-            try {
-                Interpreter interpreter = new Interpreter();
-                interpreter.execute(ast);
-                
-                // Çıktıları al ve göster
-                String output = outputStream.toString();
-                if (!output.isEmpty()) {
-                    JTextArea outputArea = new JTextArea(output);
-                    outputArea.setEditable(false);
-                    JScrollPane scrollPane = new JScrollPane(outputArea);
-                    scrollPane.setPreferredSize(new Dimension(400, 300));
-                    
-                    JDialog dialog = new JDialog();
-                    dialog.setTitle("Program Çıktısı");
-                    dialog.setLayout(new BorderLayout());
-                    dialog.add(scrollPane, BorderLayout.CENTER);
-                    dialog.pack();
-                    dialog.setLocationRelativeTo(null);
-                    dialog.setVisible(true);
-                }
-                
-                statusLabel.setText("✅ Program başarıyla çalıştırıldı.");
-            } finally {
-                System.setOut(originalOut);
+            // Çıktıları yakala; System.out değiştirilmez
+            StringOutput captured = new StringOutput();
+            Interpreter interpreter = new Interpreter(captured);
+            interpreter.execute(ast);
+
+            // Çıktıları al ve göster
+            String output = captured.toString();
+            if (!output.isEmpty()) {
+                JTextArea outputArea = new JTextArea(output);
+                outputArea.setEditable(false);
+                JScrollPane scrollPane = new JScrollPane(outputArea);
+                scrollPane.setPreferredSize(new Dimension(400, 300));
+
+                JDialog dialog = new JDialog();
+                dialog.setTitle("Program Çıktısı");
+                dialog.setLayout(new BorderLayout());
+                dialog.add(scrollPane, BorderLayout.CENTER);
+                dialog.pack();
+                dialog.setLocationRelativeTo(null);
+                dialog.setVisible(true);
             }
 
+            statusLabel.setText("✅ Program başarıyla çalıştırıldı.");
+
         } catch (IOException e) {
             statusLabel.setText("❌ Dosya okuma hatası: " + e.getMessage());
         } catch (RuntimeException e) {
@@ -164,55 +190,293 @@ public class Main {
         }
     }
 
-    public static void main(String[] args) {
-        if (args.length > 0) {
-            // Eğer komut satırı argümanı varsa, eski şekilde çalıştır
+    /**
+     * Kaynağı çözümler, denetler ve çalıştırılmaya hazır ağacı döndürür.
+     * Belirteçler okuyucudan istendikçe üretilir; belirteç listesi tutulmaz.
+     */
+    private static ASTNode.Program compile(Reader source, Options options, Diagnostics diagnostics) {
+        Lexer lexer = new Lexer(diagnostics);
+        Parser parser = new Parser(diagnostics);
+        lexer.setMetrics(options.metricsRegistry());
+        parser.setMetrics(options.metricsRegistry());
+        ASTNode.Program ast = parser.parse(lexer.stream(source));
+
+        if (diagnostics.isEnabled(Channel.MAIN, Level.INFO)) {
+            diagnostics.log(Channel.MAIN, Level.INFO, "Token sayısı: " + lexer.tokenCount());
+        }
+
+        new TypeChecker().check(ast);
+        if (options.optimizationLevel > 0) {
+            ast = new Optimizer().optimize(ast);
+        }
+        new Resolver().resolve(ast);
+        return ast;
+    }
+
+    /**
+     * Akış kipi: her üst düzey deyim çözümlenir, denetlenir ve hemen
+     * çalıştırılır; ardından bırakılır. Yalnızca fonksiyon tanımları motorda
+     * saklanır. Bir deyimdeki hata, önceki deyimler çalıştıktan sonra bildirilir.
+     */
+    private static void runStreaming(Reader source, Options options, Diagnostics diagnostics, Output output,
+                                     Profiler profiler) {
+        Lexer lexer = new Lexer(diagnostics);
+        Parser parser = new Parser(diagnostics);
+        lexer.setMetrics(options.metricsRegistry());
+        parser.setMetrics(options.metricsRegistry());
+        Iterator<ASTNode> statements = parser.statements(lexer.stream(source));
+        TypeChecker checker = new TypeChecker();
+        Optimizer optimizer = options.optimizationLevel > 0 ? new Optimizer() : null;
+        Resolver resolver = new Resolver();
+        boolean useVm = options.engine == Engine.VM;
+        Interpreter interpreter = useVm ? null : newInterpreter(options, output, profiler);
+        SpecializationReport specializations = profiler != null && !useVm
+                ? new SpecializationReport(interpreter.specializations()) : null;
+        vm.Compiler compiler = useVm ? new vm.Compiler() : null;
+        VM vm = useVm ? new VM(output, new Scanner(System.in), options.limits) : null;
+
+        if (profiler != null) profiler.start();
         try {
-            Path path = Path.of(args[0]);
-            if (!Files.exists(path)) {
-                System.err.println("⚠️ Dosya bulunamadı: " + path.toAbsolutePath());
-                return;
+            while (statements.hasNext()) {
+                ASTNode statement = statements.next();
+                checker.checkStatement(statement);
+                List<ASTNode> parts = optimizer != null ? optimizer.optimizeStatement(statement) : List.of(statement);
+                for (ASTNode part : parts) {
+                    resolver.resolveStatement(part);
+                    if (diagnostics.isEnabled(Channel.AST, Level.INFO)) {
+                        diagnostics.log(Channel.AST, Level.INFO, part.dump());
+                    }
+                    if (useVm) {
+                        Chunk chunk = compiler.compileStatement(part, resolver.globalCount());
+                        if (diagnostics.isEnabled(Channel.BYTECODE, Level.INFO)) {
+                            diagnostics.log(Channel.BYTECODE, Level.INFO, chunk.disassemble());
+                        }
+                        vm.run(chunk);
+                    } else {
+                        interpreter.ensureGlobals(resolver.globalCount());
+                        if (specializations != null) specializations.add(part);
+                        interpreter.execute(part);
+                    }
+                }
             }
+        } finally {
+            if (profiler != null) writeProfile(profiler, specializations, options, output);
+        }
+    }
 
-            String source = Files.readString(path);
-            System.out.println("Kaynak kod:");
-            System.out.println(source);
-            System.out.println("-------------------");
+    /** Komut satırından verilen dosyayı derler ve çalıştırır. */
+    private static void run(Path path, Options options, Diagnostics diagnostics, Output output) throws IOException {
+        Profiler profiler = options.profile == null ? null : new Profiler(options.profile, options.profileInterval);
 
-            Lexer lexer = new Lexer();
-            List<Token> tokens = lexer.tokenize(source);
+        // Kaynak metin yalnızca önbellek anahtarı ya da ayrıntılı çıktı için
+        // bütünüyle okunur; aksi halde dosyadan akış olarak çözümlenir
+        String source = null;
+        if (options.useCache() || diagnostics.isEnabled(Channel.MAIN, Level.INFO)) {
+            source = Files.readString(path);
+            if (diagnostics.isEnabled(Channel.MAIN, Level.INFO)) {
+                diagnostics.log(Channel.MAIN, Level.INFO, "Kaynak kod:\n" + source + "\n-------------------");
+            }
+        }
 
-            System.out.println("Token sayısı: " + tokens.size());
+        if (options.stream) {
+            try (Reader reader = source != null ? new StringReader(source) : Files.newBufferedReader(path)) {
+                runStreaming(reader, options, diagnostics, output, profiler);
+            }
+            return;
+        }
 
-            if (tokens.isEmpty()) {
-                    System.err.println("❌ Lexer hiç token üretemedi.");
-                return;
+        ASTNode.Program ast = null;
+        ProgramCache cache = null;
+        byte[] cacheKey = null;
+        if (options.useCache()) {
+            cache = new ProgramCache(Path.of(options.cacheDir));
+            cacheKey = cache.key(source, "O" + options.optimizationLevel);
+            ast = cache.load(cacheKey);
+            if (ast != null) {
+                diagnostics.log(Channel.MAIN, Level.INFO, "Derlenmiş program önbellekten yüklendi.");
+            }
+        }
+        if (ast == null) {
+            try (Reader reader = source != null ? new StringReader(source) : Files.newBufferedReader(path)) {
+                ast = compile(reader, options, diagnostics);
+            }
+            if (cache != null) {
+                try {
+                    cache.store(cacheKey, ast);
+                } catch (IOException e) {
+                    System.err.println("⚠️ Önbelleğe yazılamadı: " + e.getMessage());
+                }
             }
+        }
+        if (diagnostics.isEnabled(Channel.AST, Level.INFO)) {
+            diagnostics.log(Channel.AST, Level.INFO, "== AST ==\n" + ast.dump());
+        }
 
-            System.out.println("== TOKENLER ==");
-            for (Token token : tokens) {
-                System.out.println(token);
+        if (options.engine == Engine.VM) {
+            Chunk program = new vm.Compiler().compile(ast);
+            if (diagnostics.isEnabled(Channel.BYTECODE, Level.INFO)) {
+                diagnostics.log(Channel.BYTECODE, Level.INFO, program.disassemble());
+            }
+            new VM(output, new Scanner(System.in), options.limits).run(program);
+        } else {
+            Set<String> memoized = new PurityAnalyzer(options.memo).analyze(ast);
+            if (!memoized.isEmpty()) {
+                diagnostics.log(Channel.MAIN, Level.INFO, "Sonuçları önbelleğe alınan fonksiyonlar: " + memoized);
+            }
+            Interpreter interpreter = newInterpreter(options, output, profiler);
+            JitCompiler jit = options.jit ? new JitCompiler(options.jitThreshold) : null;
+            interpreter.setJit(jit);
+            if (profiler != null) profiler.start();
+            try {
+                interpreter.execute(ast);
+            } finally {
+                if (jit != null) {
+                    diagnostics.log(Channel.MAIN, Level.INFO, "Derleyici kademesi: " + jit.compiledCount()
+                            + " fonksiyon derlendi, " + jit.rejectedCount() + " derlenemedi, "
+                            + jit.deoptimizationCount() + " geri dönüş");
+                }
+                if (profiler != null) writeProfile(profiler, specializationReport(interpreter, ast), options, output);
+                if (options.memoStats) writeMemoStats(interpreter.memoCache(), memoized, output);
             }
-            System.out.println("================");
+        }
+    }
 
-            Parser parser = new Parser();
-            ASTNode ast = parser.parse(tokens);
-            System.out.println("== AST ==");
-            System.out.println(ast);    
+    private static Interpreter newInterpreter(Options options, Output output, Profiler profiler) {
+        Interpreter interpreter = new Interpreter(output, new Scanner(System.in), options.limits);
+        interpreter.setProfiler(profiler);
+        interpreter.setMetrics(options.metricsRegistry());
+        interpreter.setMemoCapacity(options.memoSize);
+        return interpreter;
+    }
 
-            Interpreter interpreter = new Interpreter();
-            interpreter.execute(ast);
+    /** Fonksiyon önbelleğinin isabet ve ıska sayılarını stderr'e yazar. */
+    private static void writeMemoStats(MemoCache memo, Set<String> memoized, Output output) {
+        output.flush();
+        if (memo == null) {
+            System.err.println("Fonksiyon önbelleği kullanılmadı " + memoized);
+            return;
+        }
+        long calls = memo.hits() + memo.misses();
+        System.err.printf("Fonksiyon önbelleği %s: %d isabet, %d ıska (%%%.1f isabet), %d çıkarma, %d/%d kayıt%n",
+                memoized, memo.hits(), memo.misses(), calls == 0 ? 0.0 : 100.0 * memo.hits() / calls,
+                memo.evictions(), memo.size(), memo.capacity());
+    }
+
+    /** Ölçümleri istenen biçimde dosyaya ya da stderr'e yazar. */
+    private static void writeMetrics(Options options) {
+        MetricsRegistry registry = options.metricsRegistry();
+        try {
+            Writer out = options.metricsOut != null
+                    ? Files.newBufferedWriter(Path.of(options.metricsOut))
+                    : new OutputStreamWriter(System.err, StandardCharsets.UTF_8);
+            try {
+                if (options.metrics.equals("prometheus")) {
+                    registry.writePrometheus(out);
+                } else {
+                    registry.writeJson(out);
+                }
+            } finally {
+                if (options.metricsOut != null) out.close(); else out.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Ölçümler yazılamadı: " + e.getMessage());
+        }
+    }
 
-            System.out.println("✅ Program başarıyla çalıştırıldı.");
+    /** Programın işlem düğümlerinin yorumlayıcıda aldığı biçimler. */
+    private static SpecializationReport specializationReport(Interpreter interpreter, ASTNode.Program ast) {
+        SpecializationReport report = new SpecializationReport(interpreter.specializations());
+        report.add(ast);
+        return report;
+    }
 
+    /**
+     * Profili durdurur; raporu stderr'e, katlanmış yığınları dosyaya yazar.
+     * {@code specializations} ağaç yorumlayıcısında işlem biçimleridir; VM'de {@code null}.
+     */
+    private static void writeProfile(Profiler profiler, SpecializationReport specializations,
+                                     Options options, Output output) {
+        profiler.stop();
+        output.flush();
+        profiler.report(System.err, PROFILE_TOP);
+        if (specializations != null) specializations.write(System.err, PROFILE_TOP);
+        try (Writer out = Files.newBufferedWriter(Path.of(options.profileOut))) {
+            profiler.writeCollapsed(out);
+            System.err.println("Katlanmış yığınlar yazıldı: " + options.profileOut);
         } catch (IOException e) {
-            System.err.println("❌ Dosya okuma hatası: " + e.getMessage());
-        } catch (RuntimeException e) {
-            System.err.println("🚨 Hata: " + e.getMessage());
+            System.err.println("⚠️ Profil yazılamadı: " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            // Eğer komut satırı argümanı varsa, eski şekilde çalıştır
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ " + e.getMessage());
+            return;
+        }
+        if (options.file == null) {
+            System.err.println("⚠️ Çalıştırılacak dosya belirtilmedi.");
+            return;
+        }
+        Diagnostics diagnostics = options.diagnostics();
+
+        if (options.batch) {
+            try {
+                new BatchRunner(options).run(BatchRunner.files(options.inputs), System.out);
+            } catch (IOException e) {
+                System.err.println("⚠️ " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
+            if (options.metrics != null) writeMetrics(options);
+            return;
+        }
+
+        // Derin özyineleme JVM'in varsayılan yığınıyla değil, seçilen boyutla sınırlansın
+        Thread runner = new Thread(null, () -> runFile(options, diagnostics), "gokdil", options.maxStackBytes);
+        runner.start();
+        try {
+            runner.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         } else {
             // GUI modunda çalıştır
             SwingUtilities.invokeLater(() -> createAndShowGUI());
         }
     }
+
+    /** Tek bir dosyayı çalıştırır; hatalar stderr'e yazılır. */
+    private static void runFile(Options options, Diagnostics diagnostics) {
+        try {
+            Path path = Path.of(options.file);
+            if (!Files.exists(path)) {
+                System.err.println("⚠️ Dosya bulunamadı: " + path.toAbsolutePath());
+                return;
+            }
+
+            // Program çıktısı tamponlanır; hata mesajlarından önce boşaltılır
+            // ki stderr ile karışık okunduğunda sıra korunsun
+            BufferedOutput output = new BufferedOutput(new FileOutputStream(FileDescriptor.out), options.flushPolicy);
+            try {
+                run(path, options, diagnostics, output);
+            } finally {
+                output.flush();
+                if (options.metrics != null) writeMetrics(options);
+            }
+
+            diagnostics.log(Channel.MAIN, Level.INFO, "✅ Program başarıyla çalıştırıldı.");
+
+        } catch (IOException e) {
+            System.err.println("❌ Dosya okuma hatası: " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            System.err.println("❌ Dosya okuma hatası: " + e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("🚨 Hata: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,221 @@
+// === src/main/Options.java ===
+package main;
+
+import cache.ProgramCache;
+import diag.Channel;
+import diag.Diagnostics;
+import diag.Level;
+import diag.Sink;
+import engine.Engine;
+import interpreter.Limits;
+import interpreter.MemoCache;
+import java.util.ArrayList;
+import java.util.List;
+import jit.JitCompiler;
+import metrics.MetricsRegistry;
+import output.FlushPolicy;
+import profile.Profiler;
+
+/** Komut satırı seçenekleri. */
+final class Options {
+    static final long DEFAULT_STACK_BYTES = 256L << 20;
+
+    String file;
+    /** {@code --batch} kipinde çalıştırılacak dizinler, kalıplar ya da dosyalar. */
+    final List<String> inputs = new ArrayList<>();
+    boolean batch;
+    int jobs = Runtime.getRuntime().availableProcessors();
+    Engine engine = Engine.TREE;
+    int optimizationLevel = 1;
+    /** Derlenmiş program önbelleğinin dizini; {@code null} ise önbellek kullanılmaz. */
+    String cacheDir;
+    /** Üst düzey deyimler çözümlendikçe tek tek çalıştırılır. */
+    boolean stream;
+    FlushPolicy flushPolicy = FlushPolicy.onInput();
+    Limits limits = Limits.NONE;
+    /**
+     * Programı çalıştıran iş parçacığının yığın boyutu (bayt). Ağaç
+     * yorumlayıcısında kuyrukta olmayan özyinelemenin derinliğini bu sınırlar.
+     * Tek dosya kipinde çalıştırıcı, {@code --batch} kipinde havuzun her iş
+     * parçacığı bu boyutla oluşturulur.
+     */
+    long maxStackBytes = DEFAULT_STACK_BYTES;
+    /** Profil kipi; {@code null} ise profil çıkarılmaz. */
+    Profiler.Mode profile;
+    long profileInterval = 1;
+    String profileOut = "gokdil-profil.folded";
+    /** Bütün saf fonksiyonların sonuçları önbelleğe alınır; aksi halde yalnızca {@code @hatırla} ile işaretlenenler. */
+    boolean memo;
+    int memoSize = MemoCache.DEFAULT_CAPACITY;
+    boolean memoStats;
+    /** Sık çağrılan saf fonksiyonlar JVM bayt koduna derlenir. */
+    boolean jit;
+    int jitThreshold = JitCompiler.DEFAULT_THRESHOLD;
+    /** Çıkışta yazılacak ölçüm biçimi: "json" ya da "prometheus"; {@code null} ise ölçülmez. */
+    String metrics;
+    /** Ölçümlerin yazılacağı dosya; {@code null} ise stderr. */
+    String metricsOut;
+    boolean verbose;
+    boolean traceLexer;
+    boolean traceParser;
+    boolean dumpTokens;
+    boolean dumpAst;
+    boolean dumpBytecode;
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            switch (arg) {
+                case "--verbose" -> options.verbose = true;
+                case "--trace-lexer" -> options.traceLexer = true;
+                case "--trace-parser" -> options.traceParser = true;
+                case "--dump-tokens" -> options.dumpTokens = true;
+                case "--dump-ast" -> options.dumpAst = true;
+                case "--dump-bytecode" -> options.dumpBytecode = true;
+                case "--engine=tree" -> options.engine = Engine.TREE;
+                case "--engine=vm" -> options.engine = Engine.VM;
+                case "-O0" -> options.optimizationLevel = 0;
+                case "-O1" -> options.optimizationLevel = 1;
+                case "--stream" -> options.stream = true;
+                case "--batch" -> options.batch = true;
+                case "--profile" -> options.profile = Profiler.Mode.INSTRUMENT;
+                case "--profile=sample" -> options.profile = Profiler.Mode.SAMPLE;
+                case "--memo" -> options.memo = true;
+                case "--memo-stats" -> options.memoStats = true;
+                case "--jit" -> options.jit = true;
+                case "--metrics", "--metrics=json" -> options.metrics = "json";
+                case "--metrics=prometheus" -> options.metrics = "prometheus";
+                case "--cache" -> options.cacheDir = ProgramCache.defaultDirectory().toString();
+                default -> {
+                    if (arg.startsWith("--flush=")) {
+                        options.flushPolicy = FlushPolicy.parse(arg.substring("--flush=".length()));
+                        continue;
+                    }
+                    if (arg.startsWith("--profile=sample:")) {
+                        options.profile = Profiler.Mode.SAMPLE;
+                        options.profileInterval = positive(arg, "--profile=sample:");
+                        continue;
+                    }
+                    if (arg.startsWith("--memo-size=")) {
+                        options.memoSize = (int) Math.min(Integer.MAX_VALUE, positive(arg));
+                        continue;
+                    }
+                    if (arg.startsWith("--jit-threshold=")) {
+                        options.jit = true;
+                        options.jitThreshold = (int) Math.min(Integer.MAX_VALUE, positive(arg));
+                        continue;
+                    }
+                    if (arg.startsWith("--metrics-out=")) {
+                        options.metricsOut = arg.substring("--metrics-out=".length());
+                        continue;
+                    }
+                    if (arg.startsWith("--profile-out=")) {
+                        options.profileOut = arg.substring("--profile-out=".length());
+                        continue;
+                    }
+                    if (arg.startsWith("--jobs=")) {
+                        options.jobs = (int) Math.min(positive(arg), Integer.MAX_VALUE);
+                        continue;
+                    }
+                    if (arg.startsWith("--max-steps=")) {
+                        options.limits = options.limits.withMaxSteps(positive(arg));
+                        continue;
+                    }
+                    if (arg.startsWith("--max-depth=")) {
+                        options.limits = options.limits.withMaxCallDepth((int) Math.min(positive(arg), Integer.MAX_VALUE));
+                        continue;
+                    }
+                    if (arg.startsWith("--timeout=")) {
+                        options.limits = options.limits.withTimeoutMillis(positive(arg));
+                        continue;
+                    }
+                    if (arg.startsWith("--max-stack-bytes=")) {
+                        options.maxStackBytes = positive(arg);
+                        continue;
+                    }
+                    if (arg.startsWith("--max-string-bytes=")) {
+                        options.limits = options.limits.withMaxStringBytes(positive(arg));
+                        continue;
+                    }
+                    if (arg.startsWith("--cache-dir=")) {
+                        options.cacheDir = arg.substring("--cache-dir=".length());
+                        continue;
+                    }
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("Bilinmeyen seçenek: " + arg);
+                    }
+                    options.inputs.add(arg);
+                }
+            }
+        }
+        if (!options.batch && options.inputs.size() > 1) {
+            throw new IllegalArgumentException("Birden fazla dosya verildi: " + options.inputs.get(1));
+        }
+        if (!options.inputs.isEmpty()) options.file = options.inputs.get(0);
+        if (options.profile != null && options.engine != Engine.TREE) {
+            throw new IllegalArgumentException("Profil çıkarma yalnızca ağaç yorumlayıcısında desteklenir");
+        }
+        if (options.memo && options.engine != Engine.TREE) {
+            throw new IllegalArgumentException("Fonksiyon önbelleği yalnızca ağaç yorumlayıcısında desteklenir");
+        }
+        if (options.memo && options.stream) {
+            // Saflık çözümlemesi programın tamamını, yeniden tanımlamalar dahil görmelidir
+            throw new IllegalArgumentException("Fonksiyon önbelleği akış kipinde kullanılamaz");
+        }
+        if (options.jit && options.engine != Engine.TREE) {
+            throw new IllegalArgumentException("Derleyici kademesi yalnızca ağaç yorumlayıcısında desteklenir");
+        }
+        if (options.jit && options.stream) {
+            // Derlenecek fonksiyonlar saflık çözümlemesiyle seçilir
+            throw new IllegalArgumentException("Derleyici kademesi akış kipinde kullanılamaz");
+        }
+        return options;
+    }
+
+    /** {@code --ad=değer} biçimindeki seçeneğin pozitif sayı değeri. */
+    private static long positive(String arg) {
+        return positive(arg, arg.substring(0, arg.indexOf('=') + 1));
+    }
+
+    private static long positive(String arg, String prefix) {
+        long value;
+        try {
+            value = Long.parseLong(arg.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            value = 0;
+        }
+        if (value <= 0) {
+            throw new IllegalArgumentException("Geçersiz değer: " + arg);
+        }
+        return value;
+    }
+
+    /** Ölçüm istendiyse süreç kaydı, istenmediyse {@code null}. */
+    MetricsRegistry metricsRegistry() {
+        return metrics == null ? null : MetricsRegistry.global();
+    }
+
+    /** Seçeneklere göre tanılama ayarlar; hiçbiri açık değilse sessiz örneği döndürür. */
+    Diagnostics diagnostics() {
+        if (!verbose && !traceLexer && !traceParser && !dumpTokens && !dumpAst && !dumpBytecode) {
+            return Diagnostics.silent();
+        }
+        Diagnostics diagnostics = new Diagnostics(Sink.to(System.err));
+        if (verbose) diagnostics.enable(Channel.MAIN, Level.INFO);
+        if (traceLexer) diagnostics.enable(Channel.LEXER, Level.TRACE);
+        if (traceParser) diagnostics.enable(Channel.PARSER, Level.TRACE);
+        if (dumpTokens) diagnostics.enable(Channel.TOKENS, Level.INFO);
+        if (dumpAst) diagnostics.enable(Channel.AST, Level.INFO);
+        if (dumpBytecode) diagnostics.enable(Channel.BYTECODE, Level.INFO);
+        return diagnostics;
+    }
+
+    /**
+     * Önbellekten yüklenen programda sözcük ve sözdizimi çözümlemesi
+     * yapılmadığından bu aşamaların izleri istendiğinde önbellek atlanır.
+     * Akış kipinde program bütün olarak derlenmediği için önbellek kullanılmaz.
+     */
+    boolean useCache() {
+        return cacheDir != null && !stream && !traceLexer && !traceParser && !dumpTokens;
+    }
+}
@@ -0,0 +1,28 @@
+// === src/metrics/Counter.java ===
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Yalnızca artan sayaç. Eşzamanlı çalıştırmalar birbirini beklemeden ekler. */
+public final class Counter {
+    final String name;
+    final String help;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        if (amount != 0) value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
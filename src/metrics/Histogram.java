@@ -0,0 +1,62 @@
+// === src/metrics/Histogram.java ===
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Süre dağılımı. Değerler nanosaniye olarak kaydedilir, dışa saniye olarak
+ * verilir; kovalar 10 µs'den 10 s'ye onar kat büyür.
+ */
+public final class Histogram {
+    /** Kova üst sınırları, nanosaniye; sonuncusundan büyükler yalnızca toplama girer. */
+    static final long[] BOUNDS = {
+        10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L
+    };
+
+    final String name;
+    final String help;
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    Histogram(String name, String help) {
+        this.name = name;
+        this.help = help;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        for (int i = 0; i < BOUNDS.length; i++) {
+            if (nanos <= BOUNDS[i]) {
+                buckets[i].increment();
+                break;
+            }
+        }
+        count.increment();
+        sum.add(nanos);
+    }
+
+    /** {@code start} anından ({@code System.nanoTime}) bu yana geçen süreyi kaydeder. */
+    public void recordSince(long start) {
+        record(System.nanoTime() - start);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sumNanos() {
+        return sum.sum();
+    }
+
+    /** {@code BOUNDS[i]} sınırına kadar (dahil) kaydedilen değer sayısı. */
+    long cumulative(int i) {
+        long total = 0;
+        for (int j = 0; j <= i; j++) {
+            total += buckets[j].sum();
+        }
+        return total;
+    }
+}
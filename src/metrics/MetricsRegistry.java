@@ -0,0 +1,147 @@
+// === src/metrics/MetricsRegistry.java ===
+package metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Çalışma zamanı ölçümlerinin kaydı. Sayaçlar ve dağılımlar isimle bir kez
+ * oluşturulur, sonra referansları tutularak güncellenir. Bütün değerler
+ * JSON ya da Prometheus metin biçiminde yazılabilir.
+ *
+ * <p>Sözcük ve sözdizimi çözümleyicisi ile yorumlayıcı yalnızca kendilerine
+ * bir kayıt verildiğinde ({@code setMetrics}) ölçer; aksi halde ölçüm
+ * maliyeti yoktur.
+ */
+public final class MetricsRegistry {
+    public static final String LEX_SECONDS = "gokdil_lex_seconds";
+    public static final String PARSE_SECONDS = "gokdil_parse_seconds";
+    public static final String EXECUTE_SECONDS = "gokdil_execute_seconds";
+    public static final String INPUT_WAIT_SECONDS = "gokdil_input_wait_seconds";
+    public static final String STATEMENTS = "gokdil_statements_total";
+    public static final String FUNCTION_CALLS = "gokdil_function_calls_total";
+    public static final String SCOPE_PUSHES = "gokdil_scope_pushes_total";
+    public static final String BOXED_NUMBERS = "gokdil_boxed_numbers_total";
+    public static final String STRINGS = "gokdil_strings_total";
+    public static final String MEMO_HITS = "gokdil_memo_hits_total";
+    public static final String MEMO_MISSES = "gokdil_memo_misses_total";
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /** Süreç boyunca paylaşılan kayıt. */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name, String help) {
+        return counters.computeIfAbsent(name, n -> new Counter(n, help));
+    }
+
+    public Histogram histogram(String name, String help) {
+        return histograms.computeIfAbsent(name, n -> new Histogram(n, help));
+    }
+
+    public Histogram lexTime() {
+        return histogram(LEX_SECONDS, "Sözcük çözümlemesinde geçen süre");
+    }
+
+    public Histogram parseTime() {
+        return histogram(PARSE_SECONDS, "Sözdizimi çözümlemesinde geçen süre (sözcük çözümlemesi hariç)");
+    }
+
+    public Histogram executeTime() {
+        return histogram(EXECUTE_SECONDS, "Yorumlayıcıda geçen süre");
+    }
+
+    public Histogram inputWait() {
+        return histogram(INPUT_WAIT_SECONDS, "Girdi isteminde kullanıcıyı bekleme süresi");
+    }
+
+    public Counter statements() {
+        return counter(STATEMENTS, "Çalıştırılan deyim sayısı");
+    }
+
+    public Counter functionCalls() {
+        return counter(FUNCTION_CALLS, "Fonksiyon çağrısı sayısı");
+    }
+
+    public Counter scopePushes() {
+        return counter(SCOPE_PUSHES, "Girilen blok kapsamı sayısı");
+    }
+
+    public Counter boxedNumbers() {
+        return counter(BOXED_NUMBERS, "Önbellek dışında kutulanan sayı sayısı");
+    }
+
+    public Counter strings() {
+        return counter(STRINGS, "Oluşturulan yazı sayısı");
+    }
+
+    public Counter memoHits() {
+        return counter(MEMO_HITS, "Saf fonksiyon önbelleğinden karşılanan çağrı sayısı");
+    }
+
+    public Counter memoMisses() {
+        return counter(MEMO_MISSES, "Saf fonksiyon önbelleğinde bulunamayan çağrı sayısı");
+    }
+
+    /** Sayacın değeri; hiç oluşturulmadıysa 0. */
+    public long count(String name) {
+        Counter counter = counters.get(name);
+        return counter == null ? 0 : counter.get();
+    }
+
+    public void writeJson(Writer out) throws IOException {
+        out.write("{\n  \"counters\" : {");
+        String separator = "\n";
+        for (Counter counter : new TreeMap<>(counters).values()) {
+            out.write(separator + "    \"" + counter.name + "\" : " + counter.get());
+            separator = ",\n";
+        }
+        out.write("\n  },\n  \"histograms\" : {");
+        separator = "\n";
+        for (Histogram histogram : new TreeMap<>(histograms).values()) {
+            out.write(separator + "    \"" + histogram.name + "\" : { \"count\" : " + histogram.count()
+                    + ", \"sum\" : " + seconds(histogram.sumNanos()) + ", \"buckets\" : {");
+            for (int i = 0; i < Histogram.BOUNDS.length; i++) {
+                out.write((i == 0 ? " \"" : ", \"") + seconds(Histogram.BOUNDS[i]) + "\" : " + histogram.cumulative(i));
+            }
+            out.write(" } }");
+            separator = ",\n";
+        }
+        out.write("\n  }\n}\n");
+    }
+
+    public void writePrometheus(Writer out) throws IOException {
+        for (Counter counter : new TreeMap<>(counters).values()) {
+            out.write("# HELP " + counter.name + " " + counter.help + "\n");
+            out.write("# TYPE " + counter.name + " counter\n");
+            out.write(counter.name + " " + counter.get() + "\n");
+        }
+        for (Histogram histogram : new TreeMap<>(histograms).values()) {
+            out.write("# HELP " + histogram.name + " " + histogram.help + "\n");
+            out.write("# TYPE " + histogram.name + " histogram\n");
+            for (int i = 0; i < Histogram.BOUNDS.length; i++) {
+                out.write(histogram.name + "_bucket{le=\"" + seconds(Histogram.BOUNDS[i]) + "\"} "
+                        + histogram.cumulative(i) + "\n");
+            }
+            out.write(histogram.name + "_bucket{le=\"+Inf\"} " + histogram.count() + "\n");
+            out.write(histogram.name + "_sum " + seconds(histogram.sumNanos()) + "\n");
+            out.write(histogram.name + "_count " + histogram.count() + "\n");
+        }
+    }
+
+    private static String seconds(long nanos) {
+        String text = String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+        // Sondaki sıfırları at: 0.000010000 -> 0.00001
+        text = text.replaceAll("0+$", "");
+        return text.endsWith(".") ? text + "0" : text;
+    }
+}
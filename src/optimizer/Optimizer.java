@@ -0,0 +1,210 @@
+// === src/optimizer/Optimizer.java ===
+package optimizer;
+
+import interpreter.Operations;
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+
+/**
+ * Tip denetiminden sonra, çözümlemeden önce çalışan sözdizimi ağacı
+ * iyileştiricisi:
+ * <ul>
+ *   <li>İşlenenleri sabit olan {@code BinOp} alt ağaçlarını katlar.</li>
+ *   <li>{@code Comment} düğümlerini kaldırır.</li>
+ *   <li>Koşulu sabit olan {@code ise} deyimlerinde ulaşılamayan dalı,
+ *       {@code böyleyken (yanlış)} döngülerini tümüyle atar.</li>
+ *   <li>Değişken tanımlamayan iç içe blokları bulundukları listeye açar,
+ *       boş blokları siler.</li>
+ * </ul>
+ *
+ * <p>Değişmeyen alt ağaçlar olduğu gibi paylaşılır; değişen düğümler tip
+ * denetleyicisinin yazdığı bilgilerle birlikte yeniden oluşturulur. Hata
+ * veren sabit ifadeler (sıfıra bölme gibi) katlanmaz, hata çalışma
+ * zamanında aynı şekilde oluşur.
+ */
+public class Optimizer implements ASTVisitor<ASTNode> {
+    public ASTNode.Program optimize(ASTNode.Program program) {
+        List<ASTNode> statements = optimizeAll(program.statements);
+        return statements == program.statements ? program : new ASTNode.Program(statements);
+    }
+
+    /**
+     * Tek bir üst düzey deyimi iyileştirir. Deyim kaldırılabilir (boş liste)
+     * ya da açılan bir bloğun deyimlerine dönüşebilir.
+     */
+    public List<ASTNode> optimizeStatement(ASTNode statement) {
+        return optimizeAll(List.of(statement));
+    }
+
+    /**
+     * Deyim listesini iyileştirir. Kaldırılan deyimler atlanır, açılabilen
+     * bloklar yerlerine eklenir; hiçbir şey değişmediyse aynı liste döner.
+     */
+    private List<ASTNode> optimizeAll(List<ASTNode> statements) {
+        List<ASTNode> result = new ArrayList<>(statements.size());
+        boolean changed = false;
+        for (ASTNode statement : statements) {
+            ASTNode optimized = statement.accept(this);
+            if (optimized != statement) changed = true;
+            if (optimized == null) continue;
+            if (optimized instanceof ASTNode.Block block && !declaresVariables(block)) {
+                result.addAll(block.statements);
+                changed = true;
+            } else {
+                result.add(optimized);
+            }
+        }
+        return changed ? result : statements;
+    }
+
+    /** Blok kendi kapsamında değişken tanımlıyorsa açılamaz. */
+    private static boolean declaresVariables(ASTNode.Block block) {
+        for (ASTNode statement : block.statements) {
+            if (statement.kind == ASTNode.Kind.VAR_DECL) return true;
+        }
+        return false;
+    }
+
+    private ASTNode.Block optimizeBlock(ASTNode.Block block) {
+        List<ASTNode> statements = optimizeAll(block.statements);
+        return statements == block.statements ? block : new ASTNode.Block(statements, block.line);
+    }
+
+    private ASTNode expression(ASTNode node) {
+        return node.accept(this);
+    }
+
+    private static boolean isConstant(ASTNode node) {
+        return switch (node.kind) {
+            case INT_LIT, FLOAT_LIT, STRING_LIT, BOOLEAN_LIT -> true;
+            default -> false;
+        };
+    }
+
+    private static Object valueOf(ASTNode node) {
+        return switch (node.kind) {
+            case INT_LIT -> ((ASTNode.IntLit) node).boxed;
+            case FLOAT_LIT -> ((ASTNode.FloatLit) node).boxed;
+            case STRING_LIT -> ((ASTNode.StringLit) node).value;
+            case BOOLEAN_LIT -> ((ASTNode.BooleanLit) node).value;
+            default -> throw new IllegalArgumentException("Sabit değil: " + node.kind);
+        };
+    }
+
+    private static ASTNode literal(Object value, int line) {
+        if (value instanceof Long l) return new ASTNode.IntLit(l, line);
+        if (value instanceof Double d) return new ASTNode.FloatLit(d, line);
+        if (Operations.isText(value)) return new ASTNode.StringLit(value.toString(), line);
+        if (value instanceof Boolean b) return new ASTNode.BooleanLit(b, line);
+        return null;
+    }
+
+    public ASTNode visitProgram(ASTNode.Program node) {
+        return optimize(node);
+    }
+
+    public ASTNode visitVarDecl(ASTNode.VarDecl node) {
+        ASTNode initializer = expression(node.initializer);
+        if (initializer == node.initializer) return node;
+        ASTNode.VarDecl decl = new ASTNode.VarDecl(node.name, node.dataType, initializer, node.line);
+        decl.coerce = node.coerce;
+        return decl;
+    }
+
+    public ASTNode visitAssign(ASTNode.Assign node) {
+        ASTNode value = expression(node.value);
+        if (value == node.value) return node;
+        ASTNode.Assign assignment = new ASTNode.Assign(node.name, value, node.line);
+        assignment.coerce = node.coerce;
+        return assignment;
+    }
+
+    public ASTNode visitPrint(ASTNode.Print node) {
+        ASTNode expression = expression(node.expression);
+        return expression == node.expression ? node : new ASTNode.Print(expression, node.line);
+    }
+
+    public ASTNode visitIf(ASTNode.If node) {
+        ASTNode condition = expression(node.condition);
+        if (isConstant(condition)) {
+            if (Operations.toBoolean(valueOf(condition))) {
+                return optimizeBlock(node.thenBranch);
+            }
+            return node.elseBranch == null ? null : node.elseBranch.accept(this);
+        }
+        ASTNode.Block thenBranch = optimizeBlock(node.thenBranch);
+        ASTNode elseBranch = node.elseBranch == null ? null : node.elseBranch.accept(this);
+        if (condition == node.condition && thenBranch == node.thenBranch && elseBranch == node.elseBranch) {
+            return node;
+        }
+        return new ASTNode.If(condition, thenBranch, elseBranch, node.line);
+    }
+
+    public ASTNode visitWhile(ASTNode.While node) {
+        ASTNode condition = expression(node.condition);
+        if (isConstant(condition) && !Operations.toBoolean(valueOf(condition))) {
+            return null;
+        }
+        ASTNode.Block body = optimizeBlock(node.body);
+        if (condition == node.condition && body == node.body) return node;
+        return new ASTNode.While(condition, body, node.line);
+    }
+
+    public ASTNode visitFunction(ASTNode.Function node) {
+        ASTNode.Block body = optimizeBlock(node.body);
+        if (body == node.body) return node;
+        ASTNode.Function function = new ASTNode.Function(node.name, node.params, body, node.line);
+        function.memoPragma = node.memoPragma;
+        return function;
+    }
+
+    public ASTNode visitReturn(ASTNode.Return node) {
+        ASTNode value = expression(node.value);
+        return value == node.value ? node : new ASTNode.Return(value, node.line);
+    }
+
+    public ASTNode visitBlock(ASTNode.Block node) {
+        ASTNode.Block block = optimizeBlock(node);
+        return block.statements.isEmpty() ? null : block;
+    }
+
+    public ASTNode visitCall(ASTNode.Call node) {
+        List<ASTNode> args = new ArrayList<>(node.args.size());
+        boolean changed = false;
+        for (ASTNode arg : node.args) {
+            ASTNode optimized = expression(arg);
+            changed |= optimized != arg;
+            args.add(optimized);
+        }
+        return changed ? new ASTNode.Call(node.name, args, node.line) : node;
+    }
+
+    public ASTNode visitComment(ASTNode.Comment node) {
+        return null;
+    }
+
+    public ASTNode visitIntLit(ASTNode.IntLit node) { return node; }
+    public ASTNode visitFloatLit(ASTNode.FloatLit node) { return node; }
+    public ASTNode visitStringLit(ASTNode.StringLit node) { return node; }
+    public ASTNode visitBooleanLit(ASTNode.BooleanLit node) { return node; }
+    public ASTNode visitVar(ASTNode.Var node) { return node; }
+    public ASTNode visitInputPrompt(ASTNode.InputPrompt node) { return node; }
+
+    public ASTNode visitBinOp(ASTNode.BinOp node) {
+        ASTNode left = expression(node.left);
+        ASTNode right = expression(node.right);
+        if (isConstant(left) && isConstant(right)) {
+            try {
+                ASTNode folded = literal(Operations.binary(node.op, valueOf(left), valueOf(right)), node.line);
+                if (folded != null) return folded;
+            } catch (RuntimeException e) {
+                // Hata çalışma zamanında, ifade gerçekten çalıştığında verilsin
+            }
+        }
+        if (left == node.left && right == node.right) return node;
+        ASTNode.BinOp binOp = new ASTNode.BinOp(node.op, left, right, node.line);
+        binOp.operandType = node.operandType;
+        return binOp;
+    }
+}
@@ -0,0 +1,101 @@
+// === src/output/BufferedOutput.java ===
+package output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Çıktıyı büyük bir karakter tamponunda biriktirip UTF-8 olarak toplu
+ * yazan hedef. Eşzamanlı kullanım için tasarlanmamıştır; her çalıştırma
+ * kendi örneğini kullanır.
+ *
+ * <p>{@code PrintStream} gibi yazma hatalarını fırlatmaz: hedef kapanmışsa
+ * (örneğin çıktı {@code head} ile kesildiyse) kalan çıktı atılır.
+ */
+public final class BufferedOutput implements Output {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Writer target;
+    private final FlushPolicy policy;
+    private final char[] buffer;
+    private int count;
+    private long lastFlush = System.nanoTime();
+    private boolean failed;
+
+    public BufferedOutput(OutputStream out, FlushPolicy policy) {
+        this.target = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        this.policy = policy;
+        this.buffer = new char[policy.size];
+    }
+
+    public void println(Object value) {
+        append(String.valueOf(value));
+        append(LINE_SEPARATOR);
+        afterWrite();
+    }
+
+    public void prompt(String text) {
+        append(text);
+        if (policy.onInput) {
+            flush();
+        } else {
+            afterWrite();
+        }
+    }
+
+    public void flush() {
+        drain();
+        if (!failed) {
+            try {
+                target.flush();
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+        lastFlush = System.nanoTime();
+    }
+
+    private void afterWrite() {
+        if (policy.intervalNanos > 0 && System.nanoTime() - lastFlush >= policy.intervalNanos) {
+            flush();
+        }
+    }
+
+    private void append(String text) {
+        int length = text.length();
+        if (length > buffer.length - count) {
+            drain();
+            if (length > buffer.length) {
+                write(text);
+                return;
+            }
+        }
+        text.getChars(0, length, buffer, count);
+        count += length;
+    }
+
+    /** Tamponu yazıcıya aktarır; yazıcının kendi bayt tamponu boşaltılmaz. */
+    private void drain() {
+        if (count == 0) return;
+        if (!failed) {
+            try {
+                target.write(buffer, 0, count);
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+        count = 0;
+    }
+
+    private void write(String text) {
+        if (failed) return;
+        try {
+            target.write(text);
+        } catch (IOException e) {
+            failed = true;
+        }
+    }
+}
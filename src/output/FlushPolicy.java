@@ -0,0 +1,67 @@
+// === src/output/FlushPolicy.java ===
+package output;
+
+/**
+ * {@link BufferedOutput} tamponunun ne zaman boşaltılacağı. Tampon her
+ * durumda dolduğunda ve program bittiğinde boşaltılır; politika bunlara ek
+ * olarak girdi isteminden önce ya da belirli aralıklarla boşaltmayı açar.
+ *
+ * <p>Komut satırında {@code --flush=} ile seçilir: {@code exit},
+ * {@code input}, {@code size:N} (N karakter) ya da {@code time:MS}.
+ */
+public final class FlushPolicy {
+    /** Varsayılan tampon boyutu, karakter cinsinden. */
+    public static final int DEFAULT_SIZE = 1 << 16;
+
+    final boolean onInput;
+    final int size;
+    final long intervalNanos;
+
+    private FlushPolicy(boolean onInput, int size, long intervalNanos) {
+        this.onInput = onInput;
+        this.size = size;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /** Yalnızca tampon dolduğunda ve çıkışta boşaltır; istem metinleri de tamponda bekler. */
+    public static FlushPolicy onExit() {
+        return new FlushPolicy(false, DEFAULT_SIZE, 0);
+    }
+
+    /** Ek olarak her girdi isteminden önce boşaltır. Varsayılan politikadır. */
+    public static FlushPolicy onInput() {
+        return new FlushPolicy(true, DEFAULT_SIZE, 0);
+    }
+
+    /** Tampon {@code chars} karakterle sınırlanır; dolunca boşaltılır. */
+    public static FlushPolicy bySize(int chars) {
+        if (chars <= 0) {
+            throw new IllegalArgumentException("Tampon boyutu pozitif olmalı: " + chars);
+        }
+        return new FlushPolicy(true, chars, 0);
+    }
+
+    /**
+     * Son boşaltmadan bu yana {@code millis} milisaniye geçmişse bir sonraki
+     * yazmada boşaltır. Süre arka planda değil, yazma sırasında denetlenir.
+     */
+    public static FlushPolicy byTime(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Boşaltma aralığı pozitif olmalı: " + millis);
+        }
+        return new FlushPolicy(true, DEFAULT_SIZE, millis * 1_000_000L);
+    }
+
+    /** Komut satırındaki politika tanımını çözümler. */
+    public static FlushPolicy parse(String spec) {
+        try {
+            if (spec.equals("exit")) return onExit();
+            if (spec.equals("input")) return onInput();
+            if (spec.startsWith("size:")) return bySize(Integer.parseInt(spec.substring("size:".length())));
+            if (spec.startsWith("time:")) return byTime(Long.parseLong(spec.substring("time:".length())));
+        } catch (NumberFormatException e) {
+            // Aşağıdaki hata bildirilir
+        }
+        throw new IllegalArgumentException("Geçersiz boşaltma politikası: " + spec);
+    }
+}
@@ -0,0 +1,62 @@
+// === src/output/Output.java ===
+package output;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Programın {@code yazdır} çıktısının yazıldığı hedef. Yorumlayıcı ve VM
+ * doğrudan {@code System.out} yerine bu arayüze yazar; böylece çıktı
+ * tamponlanabilir ya da başka bir yere yakalanabilir.
+ */
+public interface Output {
+    /** Değeri yazar ve satırı bitirir. */
+    void println(Object value);
+
+    /**
+     * Girdi okunmadan hemen önce istem metnini yazar. Tamponlu hedefler
+     * politikaları gerektiriyorsa burada boşaltılır ki istem görünsün.
+     */
+    void prompt(String text);
+
+    /** Bekleyen bütün çıktıyı hedefine iletir. */
+    void flush();
+
+    /** Her yazmayı doğrudan verilen akışa ileten, tamponsuz hedef. */
+    static Output of(PrintStream stream) {
+        return new Output() {
+            public void println(Object value) {
+                stream.println(value);
+            }
+
+            public void prompt(String text) {
+                stream.print(text);
+                stream.flush();
+            }
+
+            public void flush() {
+                stream.flush();
+            }
+        };
+    }
+
+    /** Verilen yazıcıya {@link PrintWriter} üzerinden yazan hedef. */
+    static Output of(Writer writer) {
+        PrintWriter out = writer instanceof PrintWriter p ? p : new PrintWriter(writer);
+        return new Output() {
+            public void println(Object value) {
+                out.println(value);
+            }
+
+            public void prompt(String text) {
+                out.print(text);
+                out.flush();
+            }
+
+            public void flush() {
+                out.flush();
+            }
+        };
+    }
+}
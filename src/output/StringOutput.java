@@ -0,0 +1,24 @@
+// === src/output/StringOutput.java ===
+package output;
+
+/** Çıktıyı bellekte toplayan hedef; arayüzün çıktıyı göstermesi için. */
+public final class StringOutput implements Output {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final StringBuilder text = new StringBuilder();
+
+    public void println(Object value) {
+        text.append(value).append(LINE_SEPARATOR);
+    }
+
+    public void prompt(String prompt) {
+        text.append(prompt);
+    }
+
+    public void flush() {}
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
@@ -1,25 +1,345 @@
 // === src/parser/ASTNode.java ===
 package parser;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class ASTNode {
-    public final String type;
-    public final String value;
-    public final List<ASTNode> children;
+/**
+ * Sözdizimi ağacı düğümlerinin ortak tabanı. Her düğüm türü aşağıdaki
+ * final sınıflardan biridir; {@link #kind} alanı sıralı (ordinal) switch
+ * ile hızlı dağıtım için, {@link #accept} ise ağaç üzerindeki geçişler içindir.
+ */
+public abstract class ASTNode {
+    public enum Kind {
+        PROGRAM, VAR_DECL, ASSIGN, PRINT, IF, WHILE, FUNCTION, RETURN, BLOCK,
+        CALL, COMMENT, INT_LIT, FLOAT_LIT, STRING_LIT, BOOLEAN_LIT, VAR, BIN_OP,
+        INPUT_PROMPT
+    }
+
+    /**
+     * İkili işlem düğümünün çalışma zamanında gözlenen işlenen tiplerine göre
+     * aldığı biçim. Düğüm ilk çalıştığında {@code UNINITIALIZED}'dan özel bir
+     * biçime geçer; sonra başka tipler görülürse kalıcı olarak {@code GENERIC} olur.
+     */
+    public enum Specialization {
+        UNINITIALIZED, INT, DOUBLE, TEXT, BOOLEAN, GENERIC
+    }
+
+    /** Çözümlenmiş değişkenin bulunduğu çerçeve: fonksiyonun kendi çerçevesi. */
+    public static final int LOCAL = 0;
+    /** Çözümlenmiş değişkenin bulunduğu çerçeve: global çerçeve. */
+    public static final int GLOBAL = 1;
+
+    public final Kind kind;
+    public final int line;
+
+    protected ASTNode(Kind kind, int line) {
+        this.kind = kind;
+        this.line = line;
+    }
+
+    public abstract <R> R accept(ASTVisitor<R> visitor);
+
+    /** Düğümü ve tüm alt ağacını girintili olarak yazar. */
+    public String dump() {
+        return AstPrinter.print(this);
+    }
+
+    public static final class Program extends ASTNode {
+        public final List<ASTNode> statements;
+        /** Çözümleyicinin ayırdığı global yuva sayısı. */
+        public int frameSize;
+
+        public Program(List<ASTNode> statements) {
+            super(Kind.PROGRAM, 1);
+            this.statements = List.copyOf(statements);
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitProgram(this); }
+
+        public String toString() { return "Program()"; }
+    }
+
+    public static final class VarDecl extends ASTNode {
+        public final String name;
+        public final DataType dataType;
+        public final ASTNode initializer;
+        /** Çözümleyici tarafından doldurulur. */
+        public int depth = -1;
+        public int slot = -1;
+        /** Tip denetleyicisi tarafından doldurulur; çalışma zamanında yapılacak dönüşüm ya da denetim. */
+        public DataType coerce;
+
+        public VarDecl(String name, DataType dataType, ASTNode initializer, int line) {
+            super(Kind.VAR_DECL, line);
+            this.name = name;
+            this.dataType = dataType;
+            this.initializer = initializer;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitVarDecl(this); }
+
+        public String toString() { return "VarDecl(" + name + ": " + dataType + ")"; }
+    }
+
+    public static final class Assign extends ASTNode {
+        public final String name;
+        public final ASTNode value;
+        /** Çözümleyici tarafından doldurulur. */
+        public int depth = -1;
+        public int slot = -1;
+        /** Tip denetleyicisi tarafından doldurulur; çalışma zamanında yapılacak dönüşüm ya da denetim. */
+        public DataType coerce;
+
+        public Assign(String name, ASTNode value, int line) {
+            super(Kind.ASSIGN, line);
+            this.name = name;
+            this.value = value;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitAssign(this); }
+
+        public String toString() { return "Assign(" + name + ")"; }
+    }
+
+    public static final class Print extends ASTNode {
+        public final ASTNode expression;
+
+        public Print(ASTNode expression, int line) {
+            super(Kind.PRINT, line);
+            this.expression = expression;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitPrint(this); }
+
+        public String toString() { return "Print()"; }
+    }
+
+    public static final class If extends ASTNode {
+        public final ASTNode condition;
+        public final Block thenBranch;
+        /** Block, else-if için If ya da yoksa null. */
+        public final ASTNode elseBranch;
+
+        public If(ASTNode condition, Block thenBranch, ASTNode elseBranch, int line) {
+            super(Kind.IF, line);
+            this.condition = condition;
+            this.thenBranch = thenBranch;
+            this.elseBranch = elseBranch;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitIf(this); }
+
+        public String toString() { return "If()"; }
+    }
+
+    public static final class While extends ASTNode {
+        public final ASTNode condition;
+        public final Block body;
+
+        public While(ASTNode condition, Block body, int line) {
+            super(Kind.WHILE, line);
+            this.condition = condition;
+            this.body = body;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitWhile(this); }
+
+        public String toString() { return "While()"; }
+    }
+
+    public static final class Function extends ASTNode {
+        public final String name;
+        public final List<String> params;
+        public final Block body;
+        /** Parametreler dahil, çağrı çerçevesindeki yuva sayısı; çözümleyici doldurur. */
+        public int frameSize;
+        /** Tanımdan hemen önce {@code @hatırla} yorumu var; sözdizimi çözümleyicisi doldurur. */
+        public boolean memoPragma;
+        /** Yan etkisiz olduğu kanıtlanan fonksiyon; saflık çözümlemesi doldurur. */
+        public boolean pure;
+        /** Saf ve sonuçları önbelleğe alınacak fonksiyon; saflık çözümlemesi doldurur. */
+        public boolean memoize;
+
+        public Function(String name, List<String> params, Block body, int line) {
+            super(Kind.FUNCTION, line);
+            this.name = name;
+            this.params = List.copyOf(params);
+            this.body = body;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitFunction(this); }
+
+        public String toString() { return "Function(" + name + params + ")"; }
+    }
+
+    public static final class Return extends ASTNode {
+        public final ASTNode value;
+
+        public Return(ASTNode value, int line) {
+            super(Kind.RETURN, line);
+            this.value = value;
+        }
 
-    public ASTNode(String type, String value) {
-        this.type = type;
-        this.value = value;
-        this.children = new ArrayList<>();
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitReturn(this); }
+
+        public String toString() { return "Return()"; }
+    }
+
+    public static final class Block extends ASTNode {
+        public final List<ASTNode> statements;
+
+        public Block(List<ASTNode> statements, int line) {
+            super(Kind.BLOCK, line);
+            this.statements = List.copyOf(statements);
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitBlock(this); }
+
+        public String toString() { return "Block()"; }
+    }
+
+    public static final class Call extends ASTNode {
+        public final String name;
+        public final List<ASTNode> args;
+        /**
+         * Çözümleyicinin verdiği sıra numarası; yorumlayıcı çağrının bağlandığı
+         * fonksiyonu bu numarayla kendi dizisinde tutar.
+         */
+        public int site = -1;
+
+        public Call(String name, List<ASTNode> args, int line) {
+            super(Kind.CALL, line);
+            this.name = name;
+            this.args = List.copyOf(args);
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitCall(this); }
+
+        public String toString() { return "Call(" + name + ")"; }
+    }
+
+    public static final class Comment extends ASTNode {
+        public final String text;
+
+        public Comment(String text, int line) {
+            super(Kind.COMMENT, line);
+            this.text = text;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitComment(this); }
+
+        public String toString() { return "Comment(" + text + ")"; }
+    }
+
+    public static final class IntLit extends ASTNode {
+        public final long value;
+        /** Her değerlendirmede yeniden kutulanmasın diye bir kez oluşturulur. */
+        public final Long boxed;
+
+        public IntLit(long value, int line) {
+            super(Kind.INT_LIT, line);
+            this.value = value;
+            this.boxed = value;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitIntLit(this); }
+
+        public String toString() { return "IntLit(" + value + ")"; }
     }
 
-    public void addChild(ASTNode child) {
-        this.children.add(child);
+    public static final class FloatLit extends ASTNode {
+        public final double value;
+        public final Double boxed;
+
+        public FloatLit(double value, int line) {
+            super(Kind.FLOAT_LIT, line);
+            this.value = value;
+            this.boxed = value;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitFloatLit(this); }
+
+        public String toString() { return "FloatLit(" + value + ")"; }
     }
 
-    public String toString() {
-        return type + "(" + value + ")";
+    public static final class StringLit extends ASTNode {
+        /** Tırnakları ayrıştırma sırasında atılmış metin. */
+        public final String value;
+
+        public StringLit(String value, int line) {
+            super(Kind.STRING_LIT, line);
+            this.value = value;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitStringLit(this); }
+
+        public String toString() { return "StringLit(\"" + value + "\")"; }
+    }
+
+    public static final class BooleanLit extends ASTNode {
+        public final boolean value;
+
+        public BooleanLit(boolean value, int line) {
+            super(Kind.BOOLEAN_LIT, line);
+            this.value = value;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitBooleanLit(this); }
+
+        public String toString() { return "BooleanLit(" + (value ? "doğru" : "yanlış") + ")"; }
+    }
+
+    public static final class Var extends ASTNode {
+        public final String name;
+        /** Çözümleyici tarafından doldurulur. */
+        public int depth = -1;
+        public int slot = -1;
+
+        public Var(String name, int line) {
+            super(Kind.VAR, line);
+            this.name = name;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitVar(this); }
+
+        public String toString() { return "Var(" + name + ")"; }
+    }
+
+    public static final class BinOp extends ASTNode {
+        public final Operator op;
+        public final ASTNode left;
+        public final ASTNode right;
+        /** Tip denetleyicisi tarafından doldurulur; iki işlenenin de kesin tipi biliniyorsa dolu. */
+        public DataType operandType;
+        /**
+         * Tipi kanıtlanamamış işlemlere çözümleyicinin verdiği sıra numarası;
+         * yorumlayıcı işlemin aldığı biçimi ({@link Specialization}) bu
+         * numarayla kendi dizisinde tutar. Tipi kanıtlanmışsa -1.
+         */
+        public int site = -1;
+
+        public BinOp(Operator op, ASTNode left, ASTNode right, int line) {
+            super(Kind.BIN_OP, line);
+            this.op = op;
+            this.left = left;
+            this.right = right;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitBinOp(this); }
+
+        public String toString() { return "BinOp(" + op + ")"; }
+    }
+
+    public static final class InputPrompt extends ASTNode {
+        public final String prompt;
+
+        public InputPrompt(String prompt, int line) {
+            super(Kind.INPUT_PROMPT, line);
+            this.prompt = prompt;
+        }
+
+        public <R> R accept(ASTVisitor<R> visitor) { return visitor.visitInputPrompt(this); }
+
+        public String toString() { return "InputPrompt(" + prompt + ")"; }
     }
 }
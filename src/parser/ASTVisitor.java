@@ -0,0 +1,24 @@
+// === src/parser/ASTVisitor.java ===
+package parser;
+
+/** Sözdizimi ağacı üzerinde çalışan geçişler için ziyaretçi arayüzü. */
+public interface ASTVisitor<R> {
+    R visitProgram(ASTNode.Program node);
+    R visitVarDecl(ASTNode.VarDecl node);
+    R visitAssign(ASTNode.Assign node);
+    R visitPrint(ASTNode.Print node);
+    R visitIf(ASTNode.If node);
+    R visitWhile(ASTNode.While node);
+    R visitFunction(ASTNode.Function node);
+    R visitReturn(ASTNode.Return node);
+    R visitBlock(ASTNode.Block node);
+    R visitCall(ASTNode.Call node);
+    R visitComment(ASTNode.Comment node);
+    R visitIntLit(ASTNode.IntLit node);
+    R visitFloatLit(ASTNode.FloatLit node);
+    R visitStringLit(ASTNode.StringLit node);
+    R visitBooleanLit(ASTNode.BooleanLit node);
+    R visitVar(ASTNode.Var node);
+    R visitBinOp(ASTNode.BinOp node);
+    R visitInputPrompt(ASTNode.InputPrompt node);
+}
@@ -0,0 +1,53 @@
+// === src/parser/AstPrinter.java ===
+package parser;
+
+/** Sözdizimi ağacını satır başına bir düğüm olacak şekilde girintili yazar. */
+final class AstPrinter implements ASTVisitor<Void> {
+    private final StringBuilder out = new StringBuilder();
+    private int depth;
+
+    static String print(ASTNode node) {
+        AstPrinter printer = new AstPrinter();
+        node.accept(printer);
+        return printer.out.toString();
+    }
+
+    private Void line(ASTNode node, ASTNode... children) {
+        out.append("  ".repeat(depth)).append(node).append('\n');
+        depth++;
+        for (ASTNode child : children) {
+            if (child != null) child.accept(this);
+        }
+        depth--;
+        return null;
+    }
+
+    private Void line(ASTNode node, Iterable<ASTNode> children) {
+        out.append("  ".repeat(depth)).append(node).append('\n');
+        depth++;
+        for (ASTNode child : children) {
+            child.accept(this);
+        }
+        depth--;
+        return null;
+    }
+
+    public Void visitProgram(ASTNode.Program node) { return line(node, node.statements); }
+    public Void visitVarDecl(ASTNode.VarDecl node) { return line(node, node.initializer); }
+    public Void visitAssign(ASTNode.Assign node) { return line(node, node.value); }
+    public Void visitPrint(ASTNode.Print node) { return line(node, node.expression); }
+    public Void visitIf(ASTNode.If node) { return line(node, node.condition, node.thenBranch, node.elseBranch); }
+    public Void visitWhile(ASTNode.While node) { return line(node, node.condition, node.body); }
+    public Void visitFunction(ASTNode.Function node) { return line(node, node.body); }
+    public Void visitReturn(ASTNode.Return node) { return line(node, node.value); }
+    public Void visitBlock(ASTNode.Block node) { return line(node, node.statements); }
+    public Void visitCall(ASTNode.Call node) { return line(node, node.args); }
+    public Void visitComment(ASTNode.Comment node) { return line(node); }
+    public Void visitIntLit(ASTNode.IntLit node) { return line(node); }
+    public Void visitFloatLit(ASTNode.FloatLit node) { return line(node); }
+    public Void visitStringLit(ASTNode.StringLit node) { return line(node); }
+    public Void visitBooleanLit(ASTNode.BooleanLit node) { return line(node); }
+    public Void visitVar(ASTNode.Var node) { return line(node); }
+    public Void visitBinOp(ASTNode.BinOp node) { return line(node, node.left, node.right); }
+    public Void visitInputPrompt(ASTNode.InputPrompt node) { return line(node); }
+}
@@ -0,0 +1,30 @@
+// === src/parser/DataType.java ===
+package parser;
+
+import lexer.TokenType;
+
+/** `tür` ile bildirilen değişken tipleri. */
+public enum DataType {
+    TAMSAYI("tamsayı"), ONDALIK("ondalık"), YAZI("yazı"), MANTIKSAL("mantıksal");
+
+    public final String keyword;
+
+    DataType(String keyword) {
+        this.keyword = keyword;
+    }
+
+    static DataType fromToken(TokenType type) {
+        return switch (type) {
+            case DATA_TYPE_TAM -> TAMSAYI;
+            case DATA_TYPE_ONDALIK -> ONDALIK;
+            case DATA_TYPE_YAZI -> YAZI;
+            case DATA_TYPE_MANTIKAL -> MANTIKSAL;
+            default -> throw new IllegalArgumentException("Veri tipi değil: " + type);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -0,0 +1,20 @@
+// === src/parser/Operator.java ===
+package parser;
+
+/** İkili işleçler; ayrıştırıcı belirteç türünden bir kez çözer. */
+public enum Operator {
+    ADD("+"), SUB("-"), MUL("*"), DIV("/"), MOD("%"),
+    EQ("=="), NE("!="), GT(">"), LT("<"), GE(">="), LE("<="),
+    AND("ve"), OR("veya");
+
+    public final String symbol;
+
+    Operator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
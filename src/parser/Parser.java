@@ -1,34 +1,102 @@
 // === src/parser/Parser.java ===
 package parser;
 
+import diag.Channel;
+import diag.Diagnostics;
+import diag.Level;
 import java.util.*;
 import java.util.stream.Collectors;
 import lexer.*;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
 
 public class Parser {
-    private List<Token> tokens;
-    private int current = 0;
+    private final Diagnostics diagnostics;
+    // Bir önceki deyim '@hatırla' yorumuysa sıradaki fonksiyon tanımına uygulanır
+    private boolean memoPragma;
+    private Histogram parseTime;
+    private TokenSource tokens;
+    private Token previous;
 
-    public ASTNode parse(List<Token> tokens) {
-        this.tokens = tokens;
+    public Parser() {
+        this(Diagnostics.silent());
+    }
+
+    public Parser(Diagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Çözümleme süresinin yazılacağı kayıt; {@code null} ise ölçülmez.
+     * Belirteçler istendikçe üretiliyorsa sözcük çözümlemesinin süresi düşülür.
+     */
+    public void setMetrics(MetricsRegistry registry) {
+        this.parseTime = registry == null ? null : registry.parseTime();
+    }
+
+    public ASTNode.Program parse(List<Token> tokens) {
         if (tokens == null || tokens.isEmpty()) {
             throw new RuntimeException("⚠️ Token listesi boş. Sözdizimi çözümlemesi yapılamaz.");
         }
-        return parseProgram();
+        return parse(TokenSource.of(tokens));
     }
 
-    private ASTNode parseProgram() {
-        ASTNode program = new ASTNode("Program", "");
-        while (!isAtEnd()) {
-            ASTNode stmt = parseStatement();
-            if (stmt != null) {
-                program.addChild(stmt);
+    /** Belirteçleri kaynaktan istendikçe çekerek çözümler; en fazla iki belirteç ileriye bakılır. */
+    public ASTNode.Program parse(TokenSource tokens) {
+        List<ASTNode> statements = new ArrayList<>();
+        statements(tokens).forEachRemaining(statements::add);
+        return new ASTNode.Program(statements);
+    }
+
+    /**
+     * Üst düzey deyimleri istendikçe, birer birer çözümler. Program düğümü
+     * oluşturulmaz; çağıran her deyimi işledikten sonra bırakabilir.
+     */
+    public Iterator<ASTNode> statements(TokenSource tokens) {
+        this.tokens = tokens;
+        this.previous = null;
+        boolean trace = diagnostics.isEnabled(Channel.PARSER, Level.TRACE);
+        Histogram parseTime = this.parseTime;
+        return new Iterator<>() {
+            private ASTNode next;
+            private long parseNanos;
+            private boolean recorded;
+
+            public boolean hasNext() {
+                if (parseTime == null || recorded) {
+                    advance();
+                    return next != null;
+                }
+                long start = System.nanoTime();
+                long lexStart = tokens.lexNanos();
+                advance();
+                parseNanos += System.nanoTime() - start - (tokens.lexNanos() - lexStart);
+                if (next == null) {
+                    recorded = true;
+                    parseTime.record(parseNanos);
+                }
+                return next != null;
             }
-        }
-        return program;
+
+            private void advance() {
+                while (next == null && !isAtEnd()) {
+                    next = parseStatement();
+                }
+            }
+
+            public ASTNode next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ASTNode stmt = next;
+                next = null;
+                if (trace) diagnostics.log(Channel.PARSER, Level.TRACE, "Satır " + stmt.line + ": " + stmt);
+                return stmt;
+            }
+        };
     }
 
     private ASTNode parseStatement() {
+        boolean pragma = memoPragma;
+        memoPragma = false;
         if (check(TokenType.KEYWORD_TANIMLA)) return parseVariableDeclaration();
         if (check(TokenType.IDENT) && checkNext(TokenType.ASSIGN_OP)) return parseAssignment();
         if (check(TokenType.KEYWORD_YAZDIR)) {
@@ -45,7 +113,7 @@ public class Parser {
             advance(); // KEYWORD_DEĞİLSE'yi tüket
             return parseBlock();
         }
-        if (check(TokenType.KEYWORD_FONKSIYON)) return parseFunction();
+        if (check(TokenType.KEYWORD_FONKSIYON)) return parseFunction(pragma);
         if (check(TokenType.KEYWORD_GERI_VER)) return parseReturn();
         if (check(TokenType.IDENT) && checkNext(TokenType.LEFT_PAREN)) {
             ASTNode call = parseCall();
@@ -68,10 +136,7 @@ public class Parser {
         consume(TokenType.KEYWORD_BASLANGIC);
         ASTNode expr = parseExpression();
         consume(TokenType.DOLLAR);
-        ASTNode varDecl = new ASTNode("VarDecl", name.value);
-        varDecl.addChild(new ASTNode("DataType", typeToken.value));
-        varDecl.addChild(expr);
-        return varDecl;
+        return new ASTNode.VarDecl(name.value, DataType.fromToken(typeToken.type), expr, name.line);
     }
 
     private ASTNode parseAssignment() {
@@ -79,73 +144,56 @@ public class Parser {
         consume(TokenType.ASSIGN_OP);
         ASTNode right = parseExpression();
         consume(TokenType.DOLLAR);
-        ASTNode binOp = new ASTNode("BinOp", "=");
-        binOp.addChild(new ASTNode("Var", name.value));
-        binOp.addChild(right);
-        return binOp;
+        return new ASTNode.Assign(name.value, right, name.line);
     }
 
     private ASTNode parsePrint() {
-        consume(TokenType.KEYWORD_YAZDIR);
+        Token keyword = consume(TokenType.KEYWORD_YAZDIR);
         consume(TokenType.LEFT_PAREN);
         ASTNode expr = parseExpression();
         consume(TokenType.RIGHT_PAREN);
         consume(TokenType.DOLLAR);
-        ASTNode print = new ASTNode("Print", "");
-        print.addChild(expr);
-        return print;
+        return new ASTNode.Print(expr, keyword.line);
     }
 
     private ASTNode parseIf() {
-        consume(TokenType.KEYWORD_ISE);
+        Token keyword = consume(TokenType.KEYWORD_ISE);
         consume(TokenType.LEFT_PAREN);
         ASTNode condition = parseExpression();
         consume(TokenType.RIGHT_PAREN);
-        ASTNode thenBlock = parseBlock();
-
-        ASTNode ifNode = new ASTNode("If", "");
-        ifNode.addChild(condition);
-        ifNode.addChild(thenBlock);
+        ASTNode.Block thenBlock = parseBlock();
 
+        ASTNode elseBranch = null;
         if (match(TokenType.KEYWORD_DEĞİLSE)) {
             if (check(TokenType.KEYWORD_ISE)) {
                 // Bu bir else-if durumu
-                advance(); // KEYWORD_ISE'yi tüket
+                Token elseIfKeyword = advance(); // KEYWORD_ISE'yi tüket
                 consume(TokenType.LEFT_PAREN);
                 ASTNode elseIfCondition = parseExpression();
                 consume(TokenType.RIGHT_PAREN);
-                ASTNode elseIfBlock = parseBlock();
-                
-                // Yeni bir If düğümü oluştur
-                ASTNode elseIfNode = new ASTNode("If", "");
-                elseIfNode.addChild(elseIfCondition);
-                elseIfNode.addChild(elseIfBlock);
+                ASTNode.Block elseIfBlock = parseBlock();
                 
-                // Ana if düğümüne else bloğu olarak ekle
-                ifNode.addChild(elseIfNode);
+                // Yeni bir If düğümü oluştur ve ana if düğümüne else dalı olarak ekle
+                elseBranch = new ASTNode.If(elseIfCondition, elseIfBlock, null, elseIfKeyword.line);
             } else {
                 // Normal else durumu
-                ASTNode elseBlock = parseBlock();
-                ifNode.addChild(elseBlock);
+                elseBranch = parseBlock();
             }
         }
 
-        return ifNode;
+        return new ASTNode.If(condition, thenBlock, elseBranch, keyword.line);
     }
 
     private ASTNode parseWhile() {
-        consume(TokenType.KEYWORD_BÖYLEYKEN);
+        Token keyword = consume(TokenType.KEYWORD_BÖYLEYKEN);
         consume(TokenType.LEFT_PAREN);
         ASTNode condition = parseExpression();
         consume(TokenType.RIGHT_PAREN);
-        ASTNode body = parseBlock();
-        ASTNode whileNode = new ASTNode("While", "");
-        whileNode.addChild(condition);
-        whileNode.addChild(body);
-        return whileNode;
+        ASTNode.Block body = parseBlock();
+        return new ASTNode.While(condition, body, keyword.line);
     }
 
-    private ASTNode parseFunction() {
+    private ASTNode parseFunction(boolean pragma) {
         consume(TokenType.KEYWORD_FONKSIYON);
         Token name = consume(TokenType.IDENT);
         consume(TokenType.LEFT_PAREN);
@@ -159,19 +207,14 @@ public class Parser {
         }
         consume(TokenType.RIGHT_PAREN);
         
-        ASTNode body = parseBlock();
-        
-        ASTNode function = new ASTNode("Function", name.value);
-        for (String param : params) {
-            ASTNode paramNode = new ASTNode("Param", param);
-            function.addChild(paramNode);
-        }
-        function.addChild(body);
+        ASTNode.Block body = parseBlock();
         
+        ASTNode.Function function = new ASTNode.Function(name.value, params, body, name.line);
+        function.memoPragma = pragma;
         return function;
     }
 
-    private ASTNode parseCall() {
+    private ASTNode.Call parseCall() {
         Token name = consume(TokenType.IDENT);
         consume(TokenType.LEFT_PAREN);
         List<ASTNode> args = new ArrayList<>();
@@ -182,24 +225,20 @@ public class Parser {
         }
         consume(TokenType.RIGHT_PAREN);
         
-        ASTNode call = new ASTNode("Call", name.value);
-        for (ASTNode arg : args) {
-            call.addChild(arg);
-        }
-        return call;
+        return new ASTNode.Call(name.value, args, name.line);
     }
 
-    private ASTNode parseBlock() {
-        consume(TokenType.LEFT_BRACE);
-        ASTNode block = new ASTNode("Block", "");
+    private ASTNode.Block parseBlock() {
+        Token brace = consume(TokenType.LEFT_BRACE);
+        List<ASTNode> statements = new ArrayList<>();
         while (!check(TokenType.RIGHT_BRACE)) {
             ASTNode stmt = parseStatement();
             if (stmt != null) {
-                block.addChild(stmt);
+                statements.add(stmt);
             }
         }
         consume(TokenType.RIGHT_BRACE);
-        return block;
+        return new ASTNode.Block(statements, brace.line);
     }
 
     private ASTNode parseExpression() {
@@ -212,10 +251,7 @@ public class Parser {
         while (match(TokenType.LOGIC_OP_VEYA)) {
             Token operator = previous();
             ASTNode right = parseLogicalAnd();
-            ASTNode binOp = new ASTNode("BinOp", "veya");
-            binOp.addChild(left);
-            binOp.addChild(right);
-            left = binOp;
+            left = new ASTNode.BinOp(Operator.OR, left, right, operator.line);
         }
         
         return left;
@@ -227,10 +263,7 @@ public class Parser {
         while (match(TokenType.LOGIC_OP_VE)) {
             Token operator = previous();
             ASTNode right = parseEquality();
-            ASTNode binOp = new ASTNode("BinOp", "ve");
-            binOp.addChild(left);
-            binOp.addChild(right);
-            left = binOp;
+            left = new ASTNode.BinOp(Operator.AND, left, right, operator.line);
         }
         
         return left;
@@ -242,11 +275,8 @@ public class Parser {
         while (match(TokenType.COMP_OP_ESITTIR, TokenType.COMP_OP_FARKLI)) {
             Token operator = previous();
             ASTNode right = parseComparison();
-            String opValue = operator.type == TokenType.COMP_OP_ESITTIR ? "==" : "!=";
-            ASTNode binOp = new ASTNode("BinOp", opValue);
-            binOp.addChild(left);
-            binOp.addChild(right);
-            left = binOp;
+            Operator op = operator.type == TokenType.COMP_OP_ESITTIR ? Operator.EQ : Operator.NE;
+            left = new ASTNode.BinOp(op, left, right, operator.line);
         }
         
         return left;
@@ -259,17 +289,13 @@ public class Parser {
                     TokenType.COMP_OP_BUYUK_ESIT, TokenType.COMP_OP_KUCUK_ESIT)) {
             Token operator = previous();
             ASTNode right = parseAdditive();
-            String opValue = switch (operator.type) {
-                case COMP_OP_BUYUKTUR -> ">";
-                case COMP_OP_KUCUKTUR -> "<";
-                case COMP_OP_BUYUK_ESIT -> ">=";
-                case COMP_OP_KUCUK_ESIT -> "<=";
-                default -> operator.value;
+            Operator op = switch (operator.type) {
+                case COMP_OP_BUYUKTUR -> Operator.GT;
+                case COMP_OP_KUCUKTUR -> Operator.LT;
+                case COMP_OP_BUYUK_ESIT -> Operator.GE;
+                default -> Operator.LE;
             };
-            ASTNode binOp = new ASTNode("BinOp", opValue);
-            binOp.addChild(left);
-            binOp.addChild(right);
-            left = binOp;
+            left = new ASTNode.BinOp(op, left, right, operator.line);
         }
         
         return left;
@@ -281,11 +307,8 @@ public class Parser {
         while (match(TokenType.BIN_OP_ARTI, TokenType.BIN_OP_EKSI)) {
             Token operator = previous();
             ASTNode right = parseMultiplicative();
-            String opValue = operator.type == TokenType.BIN_OP_ARTI ? "+" : "-";
-            ASTNode binOp = new ASTNode("BinOp", opValue);
-            binOp.addChild(left);
-            binOp.addChild(right);
-            left = binOp;
+            Operator op = operator.type == TokenType.BIN_OP_ARTI ? Operator.ADD : Operator.SUB;
+            left = new ASTNode.BinOp(op, left, right, operator.line);
         }
         
         return left;
@@ -297,16 +320,12 @@ public class Parser {
         while (match(TokenType.BIN_OP_CARPI, TokenType.BIN_OP_BOLU, TokenType.BIN_OP_MODULO)) {
             Token operator = previous();
             ASTNode right = parsePrimary();
-            String opValue = switch (operator.type) {
-                case BIN_OP_CARPI -> "*";
-                case BIN_OP_BOLU -> "/";
-                case BIN_OP_MODULO -> "%";
-                default -> operator.value;
+            Operator op = switch (operator.type) {
+                case BIN_OP_CARPI -> Operator.MUL;
+                case BIN_OP_BOLU -> Operator.DIV;
+                default -> Operator.MOD;
             };
-            ASTNode binOp = new ASTNode("BinOp", opValue);
-            binOp.addChild(left);
-            binOp.addChild(right);
-            left = binOp;
+            left = new ASTNode.BinOp(op, left, right, operator.line);
         }
         
         return left;
@@ -314,32 +333,39 @@ public class Parser {
 
     private ASTNode parsePrimary() {
         if (match(TokenType.INT_LIT)) {
-            return new ASTNode("IntLit", previous().value);
+            Token literal = previous();
+            try {
+                return new ASTNode.IntLit(Long.parseLong(literal.value), literal.line);
+            } catch (NumberFormatException e) {
+                throw error(literal, "Tamsayı sınırlar dışında: " + literal.value);
+            }
         }
         if (match(TokenType.FLOAT_LIT)) {
-            return new ASTNode("FloatLit", previous().value);
+            Token literal = previous();
+            return new ASTNode.FloatLit(Double.parseDouble(literal.value), literal.line);
         }
         if (match(TokenType.STRING_LITERAL)) {
-            return new ASTNode("StringLit", previous().value);
+            // Tırnaklar bir kez, burada atılır
+            Token literal = previous();
+            return new ASTNode.StringLit(literal.value.substring(1, literal.value.length() - 1), literal.line);
         }
         if (match(TokenType.KEYWORD_DOGRU)) {
-            return new ASTNode("BooleanLit", "doğru");
+            return new ASTNode.BooleanLit(true, previous().line);
         }
         if (match(TokenType.KEYWORD_YANLIS)) {
-            return new ASTNode("BooleanLit", "yanlış");
+            return new ASTNode.BooleanLit(false, previous().line);
         }
         if (check(TokenType.INPUT_PROMPT)) {
             Token value = consume(TokenType.INPUT_PROMPT);
             String promptText = value.value.substring(2, value.value.length() - 2);
-            ASTNode inputNode = new ASTNode("InputPrompt", promptText);
-            return inputNode;
+            return new ASTNode.InputPrompt(promptText, value.line);
         }
         if (check(TokenType.IDENT)) {
             if (checkNext(TokenType.LEFT_PAREN)) {
                 return parseCall();
             }
             Token value = consume(TokenType.IDENT);
-            return new ASTNode("Var", value.value);
+            return new ASTNode.Var(value.value, value.line);
         }
         if (check(TokenType.LEFT_PAREN)) {
             consume(TokenType.LEFT_PAREN);
@@ -367,12 +393,11 @@ public class Parser {
     }
 
     private boolean checkNext(TokenType type) {
-        if (current + 1 >= tokens.size()) return false;
-        return tokens.get(current + 1).type == type;
+        return tokens.peek(1).type == type;
     }
 
     private Token advance() {
-        if (!isAtEnd()) current++;
+        if (!isAtEnd()) previous = tokens.next();
         return previous();
     }
 
@@ -381,11 +406,11 @@ public class Parser {
     }
 
     private Token peek() {
-        return tokens.get(current);
+        return tokens.peek();
     }
 
     private Token previous() {
-        return tokens.get(current - 1);
+        return previous;
     }
 
     private Token consume(TokenType... types) {
@@ -406,16 +431,15 @@ public class Parser {
 
     private ASTNode parseComment() {
         Token comment = consume(TokenType.COMMENT);
-        return new ASTNode("Comment", comment.value);
+        memoPragma = comment.value.substring(1).strip().equals("hatırla");
+        return new ASTNode.Comment(comment.value, comment.line);
     }
 
     private ASTNode parseReturn() {
-        consume(TokenType.KEYWORD_GERI_VER);
+        Token keyword = consume(TokenType.KEYWORD_GERI_VER);
         ASTNode expr = parseExpression();
         consume(TokenType.DOLLAR);
-        ASTNode returnNode = new ASTNode("Return", "");
-        returnNode.addChild(expr);
-        return returnNode;
+        return new ASTNode.Return(expr, keyword.line);
     }
 
     private String tokenTypeToString(TokenType type) {
@@ -0,0 +1,262 @@
+// === src/profile/Profiler.java ===
+package profile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * GökDil programları için profil çıkarıcı. Yorumlayıcı her fonksiyon
+ * girişinde {@link #enter}, çıkışında {@link #exit}, her deyimde
+ * {@link #line} çağırır; çağrılar bir çağrı bağlamı ağacında toplanır.
+ *
+ * <p>İki kip vardır:
+ * <ul>
+ *   <li>{@link Mode#INSTRUMENT}: her çağrının süresi {@code System.nanoTime}
+ *       ile ölçülür, her satırın çalışma sayısı tutulur. Sonuçlar kesindir
+ *       ama ölçüm maliyeti küçük fonksiyonlarda belirgindir.</li>
+ *   <li>{@link Mode#SAMPLE}: ayrı bir iş parçacığı belirli aralıklarla o an
+ *       çalışan çağrı yığınını ve satırı kaydeder. Süreler örnek sayısından
+ *       tahmin edilir; yorumlayıcıya düşen iş yalnızca iki alan yazmaktır.</li>
+ * </ul>
+ *
+ * <p>Sonuçlar en sıcak fonksiyon ve satırları gösteren bir rapor ve
+ * flame graph araçlarının okuduğu katlanmış yığın ({@code a;b;c değer})
+ * biçiminde yazılır.
+ */
+public final class Profiler {
+    public enum Mode { INSTRUMENT, SAMPLE }
+
+    private static final String ROOT = "<program>";
+
+    /** Çağrı bağlamı ağacında bir düğüm: aynı yığından gelen çağrılar. */
+    private static final class Node {
+        final String name;
+        final Node parent;
+        final Map<String, Node> children = new HashMap<>(4);
+        long calls;
+        long selfNanos;
+        long samples;
+
+        Node(String name, Node parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        Node child(String name) {
+            Node child = children.get(name);
+            if (child == null) {
+                child = new Node(name, this);
+                children.put(name, child);
+            }
+            return child;
+        }
+    }
+
+    /** Rapordaki bir fonksiyonun toplamları. */
+    private static final class FunctionStats {
+        final String name;
+        long calls;
+        long inclusive;
+        long exclusive;
+
+        FunctionStats(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Mode mode;
+    private final long intervalNanos;
+    private final Node root = new Node(ROOT, null);
+
+    // Örnekleyici iş parçacığı bu iki alanı eşzamanlamadan okur; bir örneğin
+    // bir adım eski yığını görmesi sonucu değiştirmez
+    private Node current = root;
+    private int currentLine;
+
+    // INSTRUMENT: her etkin çağrının başlangıç zamanı ve çağırdıklarında geçen süre
+    private long[] entered = new long[64];
+    private long[] childNanos = new long[64];
+    private int depth;
+    private long[] lineCounts = new long[64];
+
+    // SAMPLE
+    private Thread sampler;
+    private volatile boolean running;
+    private long[] lineSamples = new long[64];
+    private long totalSamples;
+
+    private long startNanos;
+    private long elapsedNanos;
+
+    public Profiler(Mode mode, long intervalMillis) {
+        this.mode = mode;
+        this.intervalNanos = Math.max(1, intervalMillis) * 1_000_000L;
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        entered[0] = startNanos;
+        root.calls = 1;
+        if (mode == Mode.SAMPLE) {
+            running = true;
+            sampler = new Thread(this::sample, "gokdil-profiler");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+    }
+
+    public void stop() {
+        long now = System.nanoTime();
+        elapsedNanos = now - startNanos;
+        if (mode == Mode.SAMPLE) {
+            running = false;
+            try {
+                sampler.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            // Hata ile yarıda kalan çağrıları kapat
+            while (depth > 0) exit();
+            root.selfNanos += now - entered[0] - childNanos[0];
+        }
+    }
+
+    public void enter(String function) {
+        Node node = current.child(function);
+        node.calls++;
+        if (mode == Mode.INSTRUMENT) {
+            if (++depth == entered.length) {
+                entered = Arrays.copyOf(entered, depth * 2);
+                childNanos = Arrays.copyOf(childNanos, depth * 2);
+            }
+            entered[depth] = System.nanoTime();
+            childNanos[depth] = 0;
+        }
+        current = node;
+    }
+
+    public void exit() {
+        Node node = current;
+        if (mode == Mode.INSTRUMENT) {
+            long elapsed = System.nanoTime() - entered[depth];
+            node.selfNanos += elapsed - childNanos[depth];
+            depth--;
+            childNanos[depth] += elapsed;
+        }
+        current = node.parent;
+    }
+
+    public void line(int line) {
+        currentLine = line;
+        if (mode == Mode.INSTRUMENT) {
+            if (line >= lineCounts.length) lineCounts = Arrays.copyOf(lineCounts, Math.max(line + 1, lineCounts.length * 2));
+            lineCounts[line]++;
+        }
+    }
+
+    private void sample() {
+        long next = System.nanoTime() + intervalNanos;
+        while (running) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait / 1_000_000L, (int) (wait % 1_000_000L));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            next += intervalNanos;
+            Node node = current;
+            int line = currentLine;
+            node.samples++;
+            if (line >= lineSamples.length) lineSamples = Arrays.copyOf(lineSamples, Math.max(line + 1, lineSamples.length * 2));
+            lineSamples[line]++;
+            totalSamples++;
+        }
+    }
+
+    /** Düğümün kendi değeri: ölçümde nanosaniye, örneklemede örnek sayısı. */
+    private long value(Node node) {
+        return mode == Mode.INSTRUMENT ? node.selfNanos : node.samples;
+    }
+
+    /** Değeri milisaniyeye çevirir; örneklemede süre örnek sayısından tahmin edilir. */
+    private double millis(long value) {
+        return (mode == Mode.INSTRUMENT ? value : value * intervalNanos) / 1e6;
+    }
+
+    /**
+     * Katlanmış yığınları yazar: her satırda kökten düğüme isimler ve
+     * düğümün kendi değeri (ölçümde mikrosaniye, örneklemede örnek sayısı).
+     */
+    public void writeCollapsed(Writer out) throws IOException {
+        writeCollapsed(root, ROOT, out);
+    }
+
+    private void writeCollapsed(Node node, String path, Writer out) throws IOException {
+        long value = mode == Mode.INSTRUMENT ? node.selfNanos / 1000 : node.samples;
+        if (value > 0) {
+            out.write(path + " " + value + "\n");
+        }
+        List<String> names = new ArrayList<>(node.children.keySet());
+        Collections.sort(names);
+        for (String name : names) {
+            writeCollapsed(node.children.get(name), path + ";" + name, out);
+        }
+    }
+
+    /** En çok zaman alan {@code top} fonksiyonu ve satırı yazar. */
+    public void report(PrintStream out, int top) {
+        Map<String, FunctionStats> functions = new HashMap<>();
+        collect(root, functions, new HashMap<>());
+
+        List<FunctionStats> sorted = new ArrayList<>(functions.values());
+        sorted.sort(Comparator.comparingLong((FunctionStats f) -> f.exclusive).reversed()
+                .thenComparing(f -> f.name));
+
+        out.println(mode == Mode.INSTRUMENT
+                ? String.format(Locale.ROOT, "== PROFİL (ölçüm, %.1f ms) ==", elapsedNanos / 1e6)
+                : String.format(Locale.ROOT, "== PROFİL (örnekleme, %d örnek, %d ms aralık) ==",
+                        totalSamples, intervalNanos / 1_000_000L));
+        out.printf("%-24s %12s %16s %12s%n", "Fonksiyon", "Çağrı", "Kapsayıcı (ms)", "Özel (ms)");
+        for (int i = 0; i < Math.min(top, sorted.size()); i++) {
+            FunctionStats f = sorted.get(i);
+            out.printf(Locale.ROOT, "%-24s %12d %16.2f %12.2f%n", f.name, f.calls, millis(f.inclusive), millis(f.exclusive));
+        }
+
+        long[] counts = mode == Mode.INSTRUMENT ? lineCounts : lineSamples;
+        List<Integer> lines = new ArrayList<>();
+        for (int line = 1; line < counts.length; line++) {
+            if (counts[line] > 0) lines.add(line);
+        }
+        lines.sort(Comparator.comparingLong((Integer line) -> counts[line]).reversed().thenComparing(line -> line));
+        out.printf("%-8s %12s%n", "Satır", mode == Mode.INSTRUMENT ? "Çalışma" : "Örnek");
+        for (int i = 0; i < Math.min(top, lines.size()); i++) {
+            out.printf("%-8d %12d%n", lines.get(i), counts[lines.get(i)]);
+        }
+    }
+
+    /**
+     * Ağacı fonksiyon isimlerine göre toplar; düğümün kapsayıcı değerini
+     * döndürür. Özyinelemede kapsayıcı değer yalnızca en dıştaki çağrı için
+     * sayılır ({@code active} yığındaki etkin çağrı sayıları).
+     */
+    private long collect(Node node, Map<String, FunctionStats> functions, Map<String, Integer> active) {
+        FunctionStats stats = functions.computeIfAbsent(node.name, FunctionStats::new);
+        stats.calls += node.calls;
+        long self = value(node);
+        stats.exclusive += self;
+        active.merge(node.name, 1, Integer::sum);
+        long inclusive = self;
+        for (Node child : node.children.values()) {
+            inclusive += collect(child, functions, active);
+        }
+        if (active.merge(node.name, -1, Integer::sum) == 0) {
+            stats.inclusive += inclusive;
+        }
+        return inclusive;
+    }
+}
@@ -0,0 +1,160 @@
+// === src/profile/SpecializationReport.java ===
+package profile;
+
+import java.io.PrintStream;
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+
+/**
+ * Yorumlayıcının ikili işlem düğümlerine verdiği özel biçimlerin dökümü
+ * ({@link ASTNode.Specialization}). Program çalıştıktan sonra ağaç gezilir;
+ * her biçimdeki düğüm sayısı ve genel biçime düşmüş (çok biçimli) işlemlerin
+ * satırları raporlanır. Biçimler ağaçta değil çalıştıran yorumlayıcıda
+ * tutulur ve {@link States} ile okunur.
+ */
+public final class SpecializationReport implements ASTVisitor<Void> {
+    /** Bir çalıştırmada işlem düğümlerinin aldığı biçimler. */
+    public interface States {
+        ASTNode.Specialization specialization(ASTNode.BinOp node);
+
+        int rewrites(ASTNode.BinOp node);
+    }
+
+    private final States states;
+    private final List<ASTNode> roots = new ArrayList<>();
+    private final Map<ASTNode.Specialization, Integer> counts = new EnumMap<>(ASTNode.Specialization.class);
+    private final List<ASTNode.BinOp> polymorphic = new ArrayList<>();
+    private long rewrites;
+
+    public SpecializationReport(States states) {
+        this.states = states;
+    }
+
+    /** Rapora bir program ya da üst düzey deyim ekler. */
+    public void add(ASTNode root) {
+        roots.add(root);
+    }
+
+    /** Eklenen ağaçları düğümlerin şu anki biçimleriyle yeniden sayar. */
+    private void collect() {
+        counts.clear();
+        polymorphic.clear();
+        rewrites = 0;
+        for (ASTNode root : roots) {
+            root.accept(this);
+        }
+        polymorphic.sort(Comparator.comparingInt(node -> node.line));
+    }
+
+    /** Verilen biçimdeki işlem düğümü sayısı. */
+    public int count(ASTNode.Specialization specialization) {
+        collect();
+        return counts.getOrDefault(specialization, 0);
+    }
+
+    /** Özel biçimden genel biçime düşmüş düğümler, satır sırasıyla. */
+    public List<ASTNode.BinOp> polymorphic() {
+        collect();
+        return List.copyOf(polymorphic);
+    }
+
+    /** Biçim sayılarını ve en fazla {@code top} çok biçimli işlemi yazar. */
+    public void write(PrintStream out, int top) {
+        collect();
+        out.println("== ÖZELLEŞTİRME ==");
+        for (ASTNode.Specialization specialization : ASTNode.Specialization.values()) {
+            out.printf("%-16s %8d%n", specialization, counts.getOrDefault(specialization, 0));
+        }
+        out.printf("%-16s %8d%n", "Yeniden yazma", rewrites);
+        if (polymorphic.isEmpty()) return;
+        out.printf("%-8s %s%n", "Satır", "Çok biçimli işlem");
+        for (int i = 0; i < Math.min(top, polymorphic.size()); i++) {
+            ASTNode.BinOp node = polymorphic.get(i);
+            out.printf("%-8d %s%n", node.line, node.op);
+        }
+    }
+
+    public Void visitBinOp(ASTNode.BinOp node) {
+        node.left.accept(this);
+        node.right.accept(this);
+        // Tipi kanıtlanmış işlemler özelleşmez
+        if (node.operandType != null) return null;
+        ASTNode.Specialization specialization = states.specialization(node);
+        int nodeRewrites = states.rewrites(node);
+        counts.merge(specialization, 1, Integer::sum);
+        rewrites += nodeRewrites;
+        // İlk yeniden yazma özel biçime geçiştir; sonrası çok biçimliliktir
+        if (specialization == ASTNode.Specialization.GENERIC && nodeRewrites > 1) {
+            polymorphic.add(node);
+        }
+        return null;
+    }
+
+    public Void visitProgram(ASTNode.Program node) {
+        for (ASTNode statement : node.statements) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitVarDecl(ASTNode.VarDecl node) {
+        node.initializer.accept(this);
+        return null;
+    }
+
+    public Void visitAssign(ASTNode.Assign node) {
+        node.value.accept(this);
+        return null;
+    }
+
+    public Void visitPrint(ASTNode.Print node) {
+        node.expression.accept(this);
+        return null;
+    }
+
+    public Void visitIf(ASTNode.If node) {
+        node.condition.accept(this);
+        node.thenBranch.accept(this);
+        if (node.elseBranch != null) node.elseBranch.accept(this);
+        return null;
+    }
+
+    public Void visitWhile(ASTNode.While node) {
+        node.condition.accept(this);
+        node.body.accept(this);
+        return null;
+    }
+
+    public Void visitFunction(ASTNode.Function node) {
+        node.body.accept(this);
+        return null;
+    }
+
+    public Void visitReturn(ASTNode.Return node) {
+        node.value.accept(this);
+        return null;
+    }
+
+    public Void visitBlock(ASTNode.Block node) {
+        for (ASTNode statement : node.statements) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitCall(ASTNode.Call node) {
+        for (ASTNode arg : node.args) {
+            arg.accept(this);
+        }
+        return null;
+    }
+
+    public Void visitComment(ASTNode.Comment node) { return null; }
+    public Void visitIntLit(ASTNode.IntLit node) { return null; }
+    public Void visitFloatLit(ASTNode.FloatLit node) { return null; }
+    public Void visitStringLit(ASTNode.StringLit node) { return null; }
+    public Void visitBooleanLit(ASTNode.BooleanLit node) { return null; }
+    public Void visitVar(ASTNode.Var node) { return null; }
+    public Void visitInputPrompt(ASTNode.InputPrompt node) { return null; }
+}
@@ -0,0 +1,66 @@
+// === src/vm/Chunk.java ===
+package vm;
+
+import parser.DataType;
+import parser.Operator;
+
+/** Derlenmiş bir kod birimi: üst düzey program ya da bir fonksiyon gövdesi. */
+public final class Chunk {
+    public final String name;
+    public final int arity;
+    public final int[] code;
+    /** Her kod sözcüğünün kaynak satırı; hata mesajları için. */
+    public final int[] lines;
+    public final Object[] constants;
+    public final String[] names;
+    public final int frameSize;
+    public final int maxStack;
+
+    Chunk(String name, int arity, int[] code, int[] lines, Object[] constants, String[] names, int frameSize, int maxStack) {
+        this.name = name;
+        this.arity = arity;
+        this.code = code;
+        this.lines = lines;
+        this.constants = constants;
+        this.names = names;
+        this.frameSize = frameSize;
+        this.maxStack = maxStack;
+    }
+
+    /** Komutları ve iç içe fonksiyonları okunabilir biçimde yazar. */
+    public String disassemble() {
+        StringBuilder sb = new StringBuilder();
+        disassemble(sb);
+        return sb.toString();
+    }
+
+    private void disassemble(StringBuilder sb) {
+        sb.append("== ").append(name).append(" (yuva: ").append(frameSize)
+          .append(", yığın: ").append(maxStack).append(") ==\n");
+        int pc = 0;
+        while (pc < code.length) {
+            int op = code[pc];
+            sb.append(String.format("%04d %-14s", pc, Opcode.name(op)));
+            for (int i = 1; i <= Opcode.operandCount(op); i++) {
+                sb.append(' ').append(code[pc + i]);
+            }
+            switch (op) {
+                case Opcode.CONST, Opcode.INPUT -> sb.append("  ; ").append(constants[code[pc + 1]]);
+                case Opcode.LOAD_GLOBAL, Opcode.STORE_GLOBAL -> sb.append("  ; ").append(names[code[pc + 2]]);
+                case Opcode.CALL -> sb.append("  ; ").append(names[code[pc + 1]]);
+                case Opcode.DEF_FUNC -> sb.append("  ; ").append(((Chunk) constants[code[pc + 1]]).name);
+                case Opcode.INT_OP, Opcode.FLOAT_OP, Opcode.BOOL_OP ->
+                    sb.append("  ; ").append(Operator.values()[code[pc + 1]].symbol);
+                case Opcode.CONVERT -> sb.append("  ; ").append(DataType.values()[code[pc + 1]]);
+                default -> {}
+            }
+            sb.append('\n');
+            pc += 1 + Opcode.operandCount(op);
+        }
+        for (Object constant : constants) {
+            if (constant instanceof Chunk function) {
+                function.disassemble(sb);
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+// === src/vm/Compiler.java ===
+package vm;
+
+import java.util.*;
+import parser.ASTNode;
+import parser.ASTVisitor;
+import parser.DataType;
+
+/**
+ * Çözümlenmiş sözdizimi ağacını bayt koduna çevirir. Değişken erişimleri
+ * {@link analysis.Resolver} tarafından atanan yuvaları kullanır.
+ */
+public final class Compiler implements ASTVisitor<Void> {
+    /** Derlenmekte olan tek bir kod biriminin durumu. */
+    private static final class Builder {
+        int[] code = new int[64];
+        int[] lines = new int[64];
+        int length;
+        int line;
+        final List<Object> constants = new ArrayList<>();
+        final Map<Object, Integer> constantIndex = new HashMap<>();
+        final List<String> names = new ArrayList<>();
+        final Map<String, Integer> nameIndex = new HashMap<>();
+        int depth;
+        int maxDepth;
+
+        void emit(int word) {
+            if (length == code.length) {
+                code = Arrays.copyOf(code, length * 2);
+                lines = Arrays.copyOf(lines, length * 2);
+            }
+            lines[length] = line;
+            code[length++] = word;
+        }
+
+        void adjust(int delta) {
+            depth += delta;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        int constant(Object value) {
+            // Fonksiyon gövdeleri kimlikleriyle, diğer sabitler değerleriyle paylaşılır;
+            // 1 ve 1.0 ayrı sabitler olarak kalsın diye anahtar tipi de içerir
+            Object key = value instanceof Chunk ? value : List.of(value.getClass(), value);
+            return constantIndex.computeIfAbsent(key, k -> {
+                constants.add(value);
+                return constants.size() - 1;
+            });
+        }
+
+        int name(String name) {
+            return nameIndex.computeIfAbsent(name, k -> {
+                names.add(name);
+                return names.size() - 1;
+            });
+        }
+
+        Chunk build(String name, int arity, int frameSize) {
+            return new Chunk(name, arity, Arrays.copyOf(code, length), Arrays.copyOf(lines, length), constants.toArray(),
+                    names.toArray(new String[0]), frameSize, maxDepth);
+        }
+    }
+
+    private Builder builder;
+
+    public Chunk compile(ASTNode.Program program) {
+        builder = new Builder();
+        for (ASTNode statement : program.statements) {
+            statement(statement);
+        }
+        builder.emit(Opcode.HALT);
+        return builder.build("<program>", 0, program.frameSize);
+    }
+
+    /**
+     * Tek bir üst düzey deyimi, ardı ardına çalıştırılacak küçük bir program
+     * olarak derler. {@code globalCount} çözümleyicinin o ana kadar ayırdığı
+     * global yuva sayısıdır.
+     */
+    public Chunk compileStatement(ASTNode statement, int globalCount) {
+        builder = new Builder();
+        statement(statement);
+        builder.emit(Opcode.HALT);
+        return builder.build("<program>", 0, globalCount);
+    }
+
+    /** İfade olarak da kullanılabilen çağrıların sonucu deyim konumunda atılır. */
+    private void statement(ASTNode node) {
+        builder.line = node.line;
+        node.accept(this);
+        if (node.kind == ASTNode.Kind.CALL) {
+            op(Opcode.POP, -1);
+        }
+    }
+
+    private void op(int opcode, int stackEffect) {
+        builder.emit(opcode);
+        builder.adjust(stackEffect);
+    }
+
+    private void op(int opcode, int operand, int stackEffect) {
+        builder.emit(opcode);
+        builder.emit(operand);
+        builder.adjust(stackEffect);
+    }
+
+    /** Hedefi sonradan yamanacak bir atlama yazar ve işlenen konumunu döndürür. */
+    private int jump(int opcode, int stackEffect) {
+        op(opcode, -1, stackEffect);
+        return builder.length - 1;
+    }
+
+    private void patch(int operandAt) {
+        builder.code[operandAt] = builder.length;
+    }
+
+    private void store(int depth, int slot, String name) {
+        if (depth == ASTNode.LOCAL) {
+            op(Opcode.STORE_LOCAL, slot, -1);
+        } else {
+            op(Opcode.STORE_GLOBAL, slot, -1);
+            builder.emit(builder.name(name));
+        }
+    }
+
+    public Void visitProgram(ASTNode.Program node) {
+        throw new IllegalStateException("Program düğümü compile() ile derlenmeli");
+    }
+
+    /** Tip denetleyicisinin çalışma zamanına bıraktığı dönüşümü yazar. */
+    private void convert(DataType type, int line) {
+        if (type != null) {
+            op(Opcode.CONVERT, type.ordinal(), 0);
+            builder.emit(line);
+        }
+    }
+
+    public Void visitVarDecl(ASTNode.VarDecl node) {
+        node.initializer.accept(this);
+        convert(node.coerce, node.line);
+        op(node.depth == ASTNode.LOCAL ? Opcode.STORE_LOCAL : Opcode.DEFINE_GLOBAL, node.slot, -1);
+        return null;
+    }
+
+    public Void visitAssign(ASTNode.Assign node) {
+        node.value.accept(this);
+        convert(node.coerce, node.line);
+        store(node.depth, node.slot, node.name);
+        return null;
+    }
+
+    public Void visitPrint(ASTNode.Print node) {
+        node.expression.accept(this);
+        op(Opcode.PRINT, -1);
+        return null;
+    }
+
+    public Void visitIf(ASTNode.If node) {
+        node.condition.accept(this);
+        int elseJump = jump(Opcode.JUMP_IF_FALSE, -1);
+        node.thenBranch.accept(this);
+        if (node.elseBranch == null) {
+            patch(elseJump);
+        } else {
+            int endJump = jump(Opcode.JUMP, 0);
+            patch(elseJump);
+            node.elseBranch.accept(this);
+            patch(endJump);
+        }
+        return null;
+    }
+
+    public Void visitWhile(ASTNode.While node) {
+        int start = builder.length;
+        node.condition.accept(this);
+        int exitJump = jump(Opcode.JUMP_IF_FALSE, -1);
+        node.body.accept(this);
+        op(Opcode.JUMP, start, 0);
+        patch(exitJump);
+        return null;
+    }
+
+    public Void visitFunction(ASTNode.Function node) {
+        Builder enclosing = builder;
+        builder = new Builder();
+        builder.line = node.line;
+        node.body.accept(this);
+        builder.emit(Opcode.RETURN_NULL);
+        Chunk function = builder.build(node.name, node.params.size(), node.frameSize);
+        builder = enclosing;
+        op(Opcode.DEF_FUNC, builder.constant(function), 0);
+        return null;
+    }
+
+    public Void visitReturn(ASTNode.Return node) {
+        node.value.accept(this);
+        op(Opcode.RETURN, -1);
+        return null;
+    }
+
+    public Void visitBlock(ASTNode.Block node) {
+        for (ASTNode statement : node.statements) {
+            statement(statement);
+        }
+        return null;
+    }
+
+    public Void visitCall(ASTNode.Call node) {
+        for (ASTNode arg : node.args) {
+            arg.accept(this);
+        }
+        op(Opcode.CALL, builder.name(node.name), 1 - node.args.size());
+        builder.emit(node.args.size());
+        return null;
+    }
+
+    public Void visitComment(ASTNode.Comment node) {
+        return null;
+    }
+
+    public Void visitIntLit(ASTNode.IntLit node) {
+        op(Opcode.CONST, builder.constant(node.boxed), 1);
+        return null;
+    }
+
+    public Void visitFloatLit(ASTNode.FloatLit node) {
+        op(Opcode.CONST, builder.constant(node.boxed), 1);
+        return null;
+    }
+
+    public Void visitStringLit(ASTNode.StringLit node) {
+        op(Opcode.CONST, builder.constant(node.value), 1);
+        return null;
+    }
+
+    public Void visitBooleanLit(ASTNode.BooleanLit node) {
+        op(Opcode.CONST, builder.constant(node.value), 1);
+        return null;
+    }
+
+    public Void visitVar(ASTNode.Var node) {
+        if (node.depth == ASTNode.LOCAL) {
+            op(Opcode.LOAD_LOCAL, node.slot, 1);
+        } else {
+            op(Opcode.LOAD_GLOBAL, node.slot, 1);
+            builder.emit(builder.name(node.name));
+        }
+        return null;
+    }
+
+    public Void visitBinOp(ASTNode.BinOp node) {
+        node.left.accept(this);
+        node.right.accept(this);
+        if (node.operandType != null) {
+            int opcode = switch (node.operandType) {
+                case TAMSAYI -> Opcode.INT_OP;
+                case ONDALIK -> Opcode.FLOAT_OP;
+                case MANTIKSAL -> Opcode.BOOL_OP;
+                case YAZI -> throw new IllegalStateException("Yazı işlemleri özelleştirilmez");
+            };
+            op(opcode, node.op.ordinal(), -1);
+            return null;
+        }
+        int opcode = switch (node.op) {
+            case ADD -> Opcode.ADD;
+            case SUB -> Opcode.SUB;
+            case MUL -> Opcode.MUL;
+            case DIV -> Opcode.DIV;
+            case MOD -> Opcode.MOD;
+            case EQ -> Opcode.EQ;
+            case NE -> Opcode.NE;
+            case GT -> Opcode.GT;
+            case LT -> Opcode.LT;
+            case GE -> Opcode.GE;
+            case LE -> Opcode.LE;
+            case AND -> Opcode.AND;
+            case OR -> Opcode.OR;
+        };
+        op(opcode, -1);
+        return null;
+    }
+
+    public Void visitInputPrompt(ASTNode.InputPrompt node) {
+        op(Opcode.INPUT, builder.constant(node.prompt), 1);
+        return null;
+    }
+}
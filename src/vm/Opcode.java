@@ -0,0 +1,64 @@
+// === src/vm/Opcode.java ===
+package vm;
+
+/**
+ * Bayt kodu komutları. Her komut {@code int[]} kod dizisinde bir sözcüktür;
+ * işlenenleri (varsa) hemen ardından gelir.
+ */
+public final class Opcode {
+    private Opcode() {}
+
+    public static final int CONST = 0;          // idx          -> sabit
+    public static final int POP = 1;            //              değer ->
+    public static final int LOAD_LOCAL = 2;     // yuva         -> değer
+    public static final int STORE_LOCAL = 3;    // yuva         değer ->
+    public static final int LOAD_GLOBAL = 4;    // yuva, isim   -> değer
+    public static final int STORE_GLOBAL = 5;   // yuva, isim   değer ->
+    public static final int DEFINE_GLOBAL = 6;  // yuva         değer ->
+    public static final int ADD = 7;
+    public static final int SUB = 8;
+    public static final int MUL = 9;
+    public static final int DIV = 10;
+    public static final int MOD = 11;
+    public static final int EQ = 12;
+    public static final int NE = 13;
+    public static final int GT = 14;
+    public static final int LT = 15;
+    public static final int GE = 16;
+    public static final int LE = 17;
+    public static final int AND = 18;
+    public static final int OR = 19;
+    public static final int JUMP = 20;          // hedef
+    public static final int JUMP_IF_FALSE = 21; // hedef        koşul ->
+    public static final int PRINT = 22;         //              değer ->
+    public static final int INPUT = 23;         // istem idx    -> metin
+    public static final int DEF_FUNC = 24;      // fonksiyon idx
+    public static final int CALL = 25;          // isim, argc   argümanlar -> sonuç
+    public static final int RETURN = 26;        //              değer ->
+    public static final int RETURN_NULL = 27;
+    public static final int HALT = 28;
+    public static final int INT_OP = 29;        // işleç        tamsayı, tamsayı -> sonuç
+    public static final int FLOAT_OP = 30;      // işleç        sayı, sayı -> sonuç
+    public static final int BOOL_OP = 31;       // işleç        mantıksal, mantıksal -> sonuç
+    public static final int CONVERT = 32;       // tip, satır   değer -> değer
+
+    private static final String[] NAMES = {
+        "CONST", "POP", "LOAD_LOCAL", "STORE_LOCAL", "LOAD_GLOBAL", "STORE_GLOBAL",
+        "DEFINE_GLOBAL", "ADD", "SUB", "MUL", "DIV", "MOD", "EQ", "NE", "GT", "LT",
+        "GE", "LE", "AND", "OR", "JUMP", "JUMP_IF_FALSE", "PRINT", "INPUT", "DEF_FUNC",
+        "CALL", "RETURN", "RETURN_NULL", "HALT", "INT_OP", "FLOAT_OP", "BOOL_OP", "CONVERT"
+    };
+
+    private static final int[] OPERANDS = {
+        1, 0, 1, 1, 2, 2, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        0, 0, 0, 0, 1, 1, 0, 1, 1, 2, 0, 0, 0, 1, 1, 1, 2
+    };
+
+    public static String name(int opcode) {
+        return NAMES[opcode];
+    }
+
+    public static int operandCount(int opcode) {
+        return OPERANDS[opcode];
+    }
+}
@@ -0,0 +1,259 @@
+// === src/vm/VM.java ===
+package vm;
+
+import interpreter.Operations;
+import error.CallDepthExceededException;
+import interpreter.Limits;
+import interpreter.ResourceGuard;
+import java.util.*;
+import output.Output;
+import parser.DataType;
+import parser.Operator;
+
+/**
+ * Yığın tabanlı bayt kodu yorumlayıcısı. Çağrı çerçeveleri Java yığınında
+ * değil, VM'in kendi dizilerinde tutulur; her {@code dön} sıradan bir
+ * komuttur ve istisna fırlatmaz.
+ */
+public final class VM {
+    /** Henüz tanımlanmamış global yuvaları işaretler. */
+    private static final Object UNDEFINED = new Object();
+    private static final Operator[] OPERATORS = Operator.values();
+    private static final DataType[] TYPES = DataType.values();
+
+    // Global değişkenler ve fonksiyonlar run() çağrıları arasında korunur; üst
+    // düzey deyimler ayrı ayrı derlenip aynı VM'de sırayla çalıştırılabilir
+    private Object[] globals = new Object[0];
+    private final Map<String, Chunk> functions = new HashMap<>();
+    private final Scanner scanner;
+    private final Output output;
+
+    // Kaynak sınırları: countdown her komutta azalır, bitince guard denetler
+    private final ResourceGuard guard;
+    private final boolean limitStrings;
+    private final int maxCallDepth;
+    private int countdown;
+
+    private Object[] stack = new Object[256];
+    private int sp;
+
+    // Çağıran çerçevelerin kayıtları; fp, kayıtlı çerçeve sayısıdır
+    private Chunk[] frameChunks = new Chunk[64];
+    private int[] framePcs = new int[64];
+    private Object[][] frameLocals = new Object[64][];
+    private int fp;
+
+    public VM() {
+        this(Output.of(System.out));
+    }
+
+    public VM(Output output) {
+        this(output, new Scanner(System.in));
+    }
+
+    public VM(Output output, Scanner input) {
+        this(output, input, Limits.NONE);
+    }
+
+    public VM(Output output, Scanner input, Limits limits) {
+        this.output = output;
+        this.scanner = input;
+        this.guard = new ResourceGuard(limits);
+        this.limitStrings = guard.limitsStrings();
+        this.maxCallDepth = limits.maxCallDepth;
+        this.countdown = guard.start();
+    }
+
+    /** Global çerçeveyi büyütür; yeni yuvalar tanımsız olarak işaretlenir. */
+    public void ensureGlobals(int size) {
+        if (globals.length >= size) return;
+        int old = globals.length;
+        globals = Arrays.copyOf(globals, size);
+        Arrays.fill(globals, old, size, UNDEFINED);
+    }
+
+    /** Global yuvanın değeri; tanımsızsa {@code null}. */
+    public Object getGlobal(int slot) {
+        Object value = globals[slot];
+        return value == UNDEFINED ? null : Operations.flatten(value);
+    }
+
+    public void setGlobal(int slot, Object value) {
+        globals[slot] = value;
+    }
+
+    public void run(Chunk program) {
+        ensureGlobals(program.frameSize);
+        Object[] globals = this.globals;
+        ensureStack(program.maxStack);
+
+        Chunk chunk = program;
+        int[] code = chunk.code;
+        Object[] constants = chunk.constants;
+        Object[] locals = globals;
+        int pc = 0;
+        int countdown = this.countdown;
+
+        while (true) {
+            if (--countdown < 0) countdown = guard.checkpoint(chunk.lines[pc]);
+            switch (code[pc++]) {
+                case Opcode.CONST -> stack[sp++] = constants[code[pc++]];
+                case Opcode.POP -> stack[--sp] = null;
+                case Opcode.LOAD_LOCAL -> stack[sp++] = locals[code[pc++]];
+                case Opcode.STORE_LOCAL -> {
+                    locals[code[pc++]] = stack[--sp];
+                    stack[sp] = null;
+                }
+                case Opcode.LOAD_GLOBAL -> {
+                    Object value = globals[code[pc++]];
+                    int name = code[pc++];
+                    if (value == UNDEFINED) {
+                        throw new RuntimeException("Tanımsız değişken: " + chunk.names[name]);
+                    }
+                    stack[sp++] = value;
+                }
+                case Opcode.STORE_GLOBAL -> {
+                    int slot = code[pc++];
+                    int name = code[pc++];
+                    if (globals[slot] == UNDEFINED) {
+                        throw new RuntimeException("Tanımsız değişken: " + chunk.names[name]);
+                    }
+                    globals[slot] = stack[--sp];
+                    stack[sp] = null;
+                }
+                case Opcode.DEFINE_GLOBAL -> {
+                    globals[code[pc++]] = stack[--sp];
+                    stack[sp] = null;
+                }
+                case Opcode.ADD -> {
+                    Object result = Operations.add(stack[sp - 2], stack[sp - 1]);
+                    if (limitStrings && result instanceof CharSequence s) guard.allocateConcat(stack[sp - 2], s, chunk.lines[pc - 1]);
+                    binary(result);
+                }
+                case Opcode.SUB -> binary(Operations.subtract(stack[sp - 2], stack[sp - 1]));
+                case Opcode.MUL -> binary(Operations.multiply(stack[sp - 2], stack[sp - 1]));
+                case Opcode.DIV -> binary(Operations.divide(stack[sp - 2], stack[sp - 1]));
+                case Opcode.MOD -> binary(Operations.modulo(stack[sp - 2], stack[sp - 1]));
+                case Opcode.EQ -> binary(Operations.equal(stack[sp - 2], stack[sp - 1]));
+                case Opcode.NE -> binary(!Operations.equal(stack[sp - 2], stack[sp - 1]));
+                case Opcode.GT -> binary(Operations.greater(stack[sp - 2], stack[sp - 1]));
+                case Opcode.LT -> binary(Operations.less(stack[sp - 2], stack[sp - 1]));
+                case Opcode.GE -> binary(Operations.greaterOrEqual(stack[sp - 2], stack[sp - 1]));
+                case Opcode.LE -> binary(Operations.lessOrEqual(stack[sp - 2], stack[sp - 1]));
+                case Opcode.AND -> binary(Operations.toBoolean(stack[sp - 2]) && Operations.toBoolean(stack[sp - 1]));
+                case Opcode.OR -> binary(Operations.toBoolean(stack[sp - 2]) || Operations.toBoolean(stack[sp - 1]));
+                case Opcode.INT_OP -> binary(Operations.longBinary(OPERATORS[code[pc++]],
+                        (Long) stack[sp - 2], (Long) stack[sp - 1]));
+                case Opcode.FLOAT_OP -> binary(Operations.doubleBinary(OPERATORS[code[pc++]],
+                        ((Number) stack[sp - 2]).doubleValue(), ((Number) stack[sp - 1]).doubleValue()));
+                case Opcode.BOOL_OP -> binary(Operations.booleanBinary(OPERATORS[code[pc++]],
+                        (Boolean) stack[sp - 2], (Boolean) stack[sp - 1]));
+                case Opcode.CONVERT -> {
+                    DataType type = TYPES[code[pc++]];
+                    int line = code[pc++];
+                    stack[sp - 1] = Operations.coerce(stack[sp - 1], type, line);
+                }
+                case Opcode.JUMP -> pc = code[pc];
+                case Opcode.JUMP_IF_FALSE -> {
+                    Object condition = stack[--sp];
+                    stack[sp] = null;
+                    pc = Operations.toBoolean(condition) ? pc + 1 : code[pc];
+                }
+                case Opcode.PRINT -> {
+                    output.println(stack[--sp]);
+                    stack[sp] = null;
+                }
+                case Opcode.INPUT -> {
+                    output.prompt(constants[code[pc++]] + ": ");
+                    String line = scanner.nextLine();
+                    if (limitStrings) guard.allocateString(line, chunk.lines[pc - 2]);
+                    stack[sp++] = line;
+                }
+                case Opcode.DEF_FUNC -> {
+                    Chunk function = (Chunk) constants[code[pc++]];
+                    functions.put(function.name, function);
+                }
+                case Opcode.CALL -> {
+                    String name = chunk.names[code[pc++]];
+                    int argc = code[pc++];
+                    Chunk function = functions.get(name);
+                    if (function == null) {
+                        throw new RuntimeException("Tanımlanmamış fonksiyon: " + name);
+                    }
+                    if (argc != function.arity) {
+                        throw new RuntimeException("Fonksiyon " + name + " " + function.arity +
+                                " parametre bekliyor, ancak " + argc + " parametre verildi");
+                    }
+
+                    if (fp >= maxCallDepth) {
+                        throw new CallDepthExceededException(chunk.lines[pc - 3],
+                                "Çağrı derinliği sınırı aşıldı (" + maxCallDepth + ")");
+                    }
+
+                    // Argümanları yığından yeni çerçevenin ilk yuvalarına taşı
+                    Object[] frame = new Object[function.frameSize];
+                    sp -= argc;
+                    System.arraycopy(stack, sp, frame, 0, argc);
+                    Arrays.fill(stack, sp, sp + argc, null);
+
+                    pushFrame(chunk, pc, locals);
+                    ensureStack(sp + function.maxStack);
+                    chunk = function;
+                    code = chunk.code;
+                    constants = chunk.constants;
+                    locals = frame;
+                    pc = 0;
+                }
+                case Opcode.RETURN, Opcode.RETURN_NULL -> {
+                    Object result = null;
+                    if (code[pc - 1] == Opcode.RETURN) {
+                        result = stack[--sp];
+                        stack[sp] = null;
+                    }
+                    if (fp == 0) {
+                        throw new RuntimeException("'dön' yalnızca fonksiyon içinde kullanılabilir");
+                    }
+                    fp--;
+                    chunk = frameChunks[fp];
+                    pc = framePcs[fp];
+                    locals = frameLocals[fp];
+                    frameChunks[fp] = null;
+                    frameLocals[fp] = null;
+                    code = chunk.code;
+                    constants = chunk.constants;
+                    stack[sp++] = result;
+                }
+                case Opcode.HALT -> {
+                    this.countdown = countdown;
+                    return;
+                }
+                default -> throw new IllegalStateException("Geçersiz komut: " + code[pc - 1]);
+            }
+        }
+    }
+
+    /** İki işleneni yığından atıp sonucu yerlerine koyar. */
+    private void binary(Object result) {
+        stack[--sp] = null;
+        stack[sp - 1] = result;
+    }
+
+    private void pushFrame(Chunk chunk, int pc, Object[] locals) {
+        if (fp == frameChunks.length) {
+            int size = fp * 2;
+            frameChunks = Arrays.copyOf(frameChunks, size);
+            framePcs = Arrays.copyOf(framePcs, size);
+            frameLocals = Arrays.copyOf(frameLocals, size);
+        }
+        frameChunks[fp] = chunk;
+        framePcs[fp] = pc;
+        frameLocals[fp] = locals;
+        fp++;
+    }
+
+    private void ensureStack(int size) {
+        if (size > stack.length) {
+            stack = Arrays.copyOf(stack, Math.max(size, stack.length * 2));
+        }
+    }
+}
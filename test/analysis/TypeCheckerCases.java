@@ -0,0 +1,98 @@
+// === test/analysis/TypeCheckerCases.java ===
+package analysis;
+
+import engine.*;
+import java.io.StringReader;
+import output.StringOutput;
+
+/**
+ * Tip denetleyicisinin gerileme denetimi. Her örnek program her iki motorda
+ * ({@link Engine}) çalıştırılır; çıktısı ya da hata iletisi beklenenle
+ * başlamalıdır. Hata iletisi, GökDil'in kendi hatası olmalıdır: JVM'in tip
+ * dönüşümü hatası ({@link ClassCastException}) her zaman başarısızlıktır.
+ *
+ * <p>Uyuşmazlık varsa beklenen ve bulunan yazılır ve çıkış kodu 1 olur.
+ */
+public final class TypeCheckerCases {
+    private TypeCheckerCases() {}
+
+    /** Program ve beklenen çıktının başı; hata bekleniyorsa "Hata: ..." */
+    private static final String[][] CASES = {
+        {
+            // Farklı tiplerle yeniden tanımlanan global her yerde tipsizdir;
+            // fonksiyonun denetimsiz ataması üst düzeyin hızlı yolunu bozmamalı
+            """
+            tanımla x tür yazı başlangıç "a"$
+            tanımla x tür tamsayı başlangıç 1$
+            fonksiyon f() { x = "str"$ }
+            f()$
+            yazdır(x + 1)$
+            """,
+            "str1",
+        },
+        {
+            """
+            tanımla x tür tamsayı başlangıç 1$
+            tanımla x tür yazı başlangıç "a"$
+            yazdır(x + 1)$
+            """,
+            "a1",
+        },
+        {
+            // Tek tipli global: fonksiyondaki tipi bilinmeyen atama çalışırken denetlenir
+            """
+            tanımla x tür tamsayı başlangıç 1$
+            fonksiyon f(v) { x = v$ }
+            f("str")$
+            yazdır(x + 1)$
+            """,
+            "Hata: Satır 2: Tip uyuşmazlığı",
+        },
+        {
+            """
+            tanımla x tür tamsayı başlangıç "a"$
+            """,
+            "Hata: Satır 1: Tip uyuşmazlığı",
+        },
+        {
+            """
+            tanımla oran tür ondalık başlangıç 3$
+            yazdır(oran / 2)$
+            """,
+            "1.5",
+        },
+    };
+
+    public static void main(String[] args) {
+        int failed = 0;
+        for (int i = 0; i < CASES.length; i++) {
+            for (Engine engine : Engine.values()) {
+                String actual = run(CASES[i][0], engine);
+                if (actual.startsWith(CASES[i][1])) {
+                    System.out.println("TAMAM  " + (i + 1) + ". örnek [" + engine + "]");
+                } else {
+                    failed++;
+                    System.out.println("HATALI " + (i + 1) + ". örnek [" + engine + "]: beklenen "
+                            + CASES[i][1] + ", bulunan " + actual);
+                }
+            }
+        }
+        System.out.println(CASES.length * Engine.values().length + " çalıştırma, " + failed + " hatalı");
+        if (failed > 0) System.exit(1);
+    }
+
+    private static String run(String source, Engine engine) {
+        StringOutput output = new StringOutput();
+        ExecutionContext context = new ExecutionContext()
+                .setOutput(output)
+                .setInput(new StringReader(""));
+        try {
+            new GokDil(engine, 1).compile(source).run(context);
+        } catch (ClassCastException e) {
+            return "ClassCastException: " + e.getMessage();
+        } catch (RuntimeException e) {
+            return output + "Hata: " + e.getMessage();
+        }
+        return output.toString().trim();
+    }
+}
@@ -0,0 +1,81 @@
+// === test/engine/BindingCases.java ===
+package engine;
+
+import java.io.StringReader;
+import output.StringOutput;
+
+/**
+ * {@link ExecutionContext#set} ile verilen global değerlerin denetimi. Her
+ * örnek her iki motorda çalıştırılır; çıktısı ya da hata iletisi beklenenle
+ * başlamalıdır. Bildirilen {@code tür}e uymayan değer GökDil hatasıyla
+ * reddedilmelidir, JVM'in tip dönüşümü hatasıyla değil.
+ *
+ * <p>Uyuşmazlık varsa beklenen ve bulunan yazılır ve çıkış kodu 1 olur.
+ */
+public final class BindingCases {
+    private BindingCases() {}
+
+    private static final String USE_BEFORE_DECLARATION = """
+            fonksiyon f() { dön x + 1$ }
+            yazdır(f())$
+            tanımla x tür tamsayı başlangıç 5$
+            """;
+
+    /** Program, verilen değişken ve değeri, beklenen çıktının başı. */
+    private static final Object[][] CASES = {
+        { USE_BEFORE_DECLARATION, "x", 41, "42" },
+        { USE_BEFORE_DECLARATION, "x", "abc", "Hata: Tip uyuşmazlığı: 'x' tamsayı tipinde, yazı değer verilemez" },
+        { USE_BEFORE_DECLARATION, "x", 1.5, "Hata: Tip uyuşmazlığı: 'x' tamsayı tipinde, ondalık değer verilemez" },
+        {
+            // Tamsayı, ondalık değişkene genişletilerek verilir
+            """
+            fonksiyon f() { dön oran / 2$ }
+            yazdır(f())$
+            tanımla oran tür ondalık başlangıç 1.0$
+            """,
+            "oran", 3, "1.5",
+        },
+        {
+            // Tanımlanmadan kullanılan değişkenin tipi yoktur, her değer verilebilir
+            """
+            yazdır(giris + 1)$
+            """,
+            "giris", "abc", "abc1",
+        },
+    };
+
+    public static void main(String[] args) {
+        int failed = 0;
+        for (int i = 0; i < CASES.length; i++) {
+            String expected = (String) CASES[i][3];
+            for (Engine engine : Engine.values()) {
+                String actual = run((String) CASES[i][0], (String) CASES[i][1], CASES[i][2], engine);
+                if (actual.startsWith(expected)) {
+                    System.out.println("TAMAM  " + (i + 1) + ". örnek [" + engine + "]");
+                } else {
+                    failed++;
+                    System.out.println("HATALI " + (i + 1) + ". örnek [" + engine + "]: beklenen "
+                            + expected + ", bulunan " + actual);
+                }
+            }
+        }
+        System.out.println(CASES.length * Engine.values().length + " çalıştırma, " + failed + " hatalı");
+        if (failed > 0) System.exit(1);
+    }
+
+    private static String run(String source, String name, Object value, Engine engine) {
+        StringOutput output = new StringOutput();
+        ExecutionContext context = new ExecutionContext()
+                .setOutput(output)
+                .setInput(new StringReader(""))
+                .set(name, value);
+        try {
+            new GokDil(engine, 1).compile(source).run(context);
+        } catch (ClassCastException e) {
+            return "ClassCastException: " + e.getMessage();
+        } catch (RuntimeException e) {
+            return output + "Hata: " + e.getMessage();
+        }
+        return output.toString().trim();
+    }
+}
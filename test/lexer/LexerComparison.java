@@ -0,0 +1,105 @@
+// === test/lexer/LexerComparison.java ===
+package lexer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Sözcük çözümleyicisinin gerileme denetimi. Her örnek dosya ilk sürümün
+ * düzenli ifadeli çözümleyicisiyle ({@link LegacyLexer}) ve {@link Lexer}
+ * ile, hem {@link Lexer#tokenize} hem de {@link Lexer#stream} yoluyla
+ * belirteçlere ayrılır; belirteç tipleri ve metinleri aynı olmalıdır.
+ *
+ * <p>Satır numaraları eski çözümleyiciyle karşılaştırılmaz: eskisi yalnızca
+ * bir belirtecin hemen ardından gelen satır sonunu sayıyordu, bu hata
+ * profil çıkarma ile birlikte düzeltildi. Bunun yerine her belirtecin
+ * kaynakta bildirdiği satırda başladığı denetlenir.
+ *
+ * <p>Argüman verilmezse proje kökünden çalıştırıldığı varsayılır ve
+ * {@code test/} altındaki ve kökteki {@code test_*.txt} dosyaları denetlenir.
+ * Uyuşmazlık varsa ilk farklı belirteç yazılır ve çıkış kodu 1 olur.
+ */
+public final class LexerComparison {
+    private LexerComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        List<Path> files = args.length > 0 ? paths(args) : defaultSamples();
+        if (files.isEmpty()) {
+            System.err.println("Denetlenecek örnek bulunamadı");
+            System.exit(1);
+        }
+        int failed = 0;
+        for (Path file : files) {
+            String source = Files.readString(file, StandardCharsets.UTF_8);
+            List<Token> expected = new LegacyLexer().tokenize(source);
+            String[] lines = source.split("\n", -1);
+            String error = compare(expected, new Lexer().tokenize(source), lines, "tokenize");
+            if (error == null) error = compare(expected, streamed(source), lines, "stream");
+            if (error != null) {
+                failed++;
+                System.out.println("FARKLI " + file + ": " + error);
+            } else {
+                System.out.println("AYNI   " + file + " (" + expected.size() + " belirteç)");
+            }
+        }
+        System.out.println(files.size() + " dosya, " + failed + " farklı");
+        if (failed > 0) System.exit(1);
+    }
+
+    private static List<Token> streamed(String source) {
+        TokenSource tokens = new Lexer().stream(new StringReader(source));
+        List<Token> result = new ArrayList<>();
+        Token token;
+        do {
+            token = tokens.next();
+            result.add(token);
+        } while (token.type != TokenType.EOF);
+        return result;
+    }
+
+    /** İlk farkın açıklaması; diziler aynıysa {@code null}. */
+    private static String compare(List<Token> expected, List<Token> actual, String[] lines, String mode) {
+        for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+            Token want = i < expected.size() ? expected.get(i) : null;
+            Token got = i < actual.size() ? actual.get(i) : null;
+            if (want == null || got == null || want.type != got.type || !want.value.equals(got.value)) {
+                return mode + " " + i + ". belirteç: beklenen " + want + ", bulunan " + got;
+            }
+            if (got.type != TokenType.EOF && !startsOnLine(got, lines)) {
+                return mode + " " + i + ". belirteç " + got.line + ". satırda değil: " + got;
+            }
+        }
+        return null;
+    }
+
+    /** Belirtecin ilk satırı kaynağın bildirilen satırında geçiyor mu? */
+    private static boolean startsOnLine(Token token, String[] lines) {
+        if (token.line < 1 || token.line > lines.length) return false;
+        String head = token.value.split("\n", -1)[0];
+        return lines[token.line - 1].contains(head);
+    }
+
+    private static List<Path> defaultSamples() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(Path.of("test"))) {
+            walk.filter(path -> path.toString().endsWith(".txt")).forEach(files::add);
+        }
+        try (DirectoryStream<Path> root = Files.newDirectoryStream(Path.of("."), "test_*.txt")) {
+            root.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    private static List<Path> paths(String[] args) {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            files.add(Path.of(arg));
+        }
+        return files;
+    }
+}
@@ -0,0 +1,70 @@
+// === test/main/BatchCases.java ===
+package main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@code --batch} kipinin denetimi. Derin, kuyruk olmayan bir özyineleme
+ * geçici bir dizine yazılır ve {@link BatchRunner} ile çalıştırılır: varsayılan
+ * yığınla tek dosya kipindeki gibi başarılı olmalı, küçük bir
+ * {@code --max-stack-bytes} ile aynı çağrı derinliği hatasını vermelidir.
+ *
+ * <p>Beklenmeyen sonuçta özet yazılır ve çıkış kodu 1 olur.
+ */
+public final class BatchCases {
+    private BatchCases() {}
+
+    private static final String DEEP = """
+            fonksiyon d(n) {
+                ise (n == 0) {
+                    dön 0$
+                }
+                dön 1 + d(n - 1)$
+            }
+            yazdır(d(20000))$
+            """;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("gokdil-batch");
+        Path file = directory.resolve("derin.txt");
+        int failed = 0;
+        try {
+            Files.writeString(file, DEEP);
+            failed += expect(run(directory), "TAMAM", "varsayılan yığın");
+            failed += expect(run(directory, "--max-stack-bytes=1048576"), "Java yığını tükendi", "1 MB yığın");
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+        System.out.println("2 çalıştırma, " + failed + " hatalı");
+        if (failed > 0) System.exit(1);
+    }
+
+    private static String run(Path directory, String... extra) throws IOException, InterruptedException {
+        String[] args = new String[extra.length + 2];
+        args[0] = "--batch";
+        System.arraycopy(extra, 0, args, 1, extra.length);
+        args[args.length - 1] = directory.toString();
+        Options options = Options.parse(args);
+        ByteArrayOutputStream summary = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(summary, true, StandardCharsets.UTF_8)) {
+            new BatchRunner(options).run(BatchRunner.files(List.copyOf(options.inputs)), out);
+        }
+        return summary.toString(StandardCharsets.UTF_8);
+    }
+
+    private static int expect(String summary, String expected, String label) {
+        if (summary.contains(expected)) {
+            System.out.println("TAMAM  " + label);
+            return 0;
+        }
+        System.out.println("HATALI " + label + ": beklenen " + expected + "\n" + summary);
+        return 1;
+    }
+}
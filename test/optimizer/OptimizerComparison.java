@@ -0,0 +1,87 @@
+// === test/optimizer/OptimizerComparison.java ===
+package optimizer;
+
+import engine.*;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import output.StringOutput;
+
+/**
+ * İyileştiricinin gerileme denetimi. Her örnek dosya her iki motorda
+ * ({@link Engine}) {@code -O0} ve {@code -O1} ile çalıştırılır; aynı motorda
+ * iki düzeyin çıktısı ve varsa hata iletisi birebir aynı olmalıdır.
+ *
+ * <p>Girdi bekleyen örneklere her istemde aynı sabit satır verilir. Argüman
+ * verilmezse proje kökünden çalıştırıldığı varsayılır ve {@code test/}
+ * altındaki ve kökteki {@code test_*.txt} dosyaları denetlenir. Uyuşmazlık
+ * varsa iki çıktı da yazılır ve çıkış kodu 1 olur.
+ */
+public final class OptimizerComparison {
+    private static final String INPUT = "3\n".repeat(64);
+
+    private OptimizerComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        List<Path> files = args.length > 0 ? paths(args) : defaultSamples();
+        if (files.isEmpty()) {
+            System.err.println("Denetlenecek örnek bulunamadı");
+            System.exit(1);
+        }
+        int failed = 0;
+        for (Path file : files) {
+            String source = Files.readString(file, StandardCharsets.UTF_8);
+            for (Engine engine : Engine.values()) {
+                String unoptimized = run(source, engine, 0);
+                String optimized = run(source, engine, 1);
+                if (unoptimized.equals(optimized)) {
+                    System.out.println("AYNI   " + file + " [" + engine + "]");
+                } else {
+                    failed++;
+                    System.out.println("FARKLI " + file + " [" + engine + "]");
+                    System.out.println("--- -O0\n" + unoptimized + "--- -O1\n" + optimized);
+                }
+            }
+        }
+        System.out.println(files.size() * Engine.values().length + " çalıştırma, " + failed + " farklı");
+        if (failed > 0) System.exit(1);
+    }
+
+    /** Çıktı; program bir hatayla biterse hata iletisi de sona eklenir. */
+    private static String run(String source, Engine engine, int level) {
+        StringOutput output = new StringOutput();
+        ExecutionContext context = new ExecutionContext()
+                .setOutput(output)
+                .setInput(new StringReader(INPUT));
+        String error = "";
+        try {
+            new GokDil(engine, level).compile(source).run(context);
+        } catch (RuntimeException e) {
+            error = "Hata: " + e.getMessage() + "\n";
+        }
+        return output + error;
+    }
+
+    private static List<Path> defaultSamples() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(Path.of("test"))) {
+            walk.filter(path -> path.toString().endsWith(".txt")).forEach(files::add);
+        }
+        try (DirectoryStream<Path> root = Files.newDirectoryStream(Path.of("."), "test_*.txt")) {
+            root.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    private static List<Path> paths(String[] args) {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            files.add(Path.of(arg));
+        }
+        return files;
+    }
+}